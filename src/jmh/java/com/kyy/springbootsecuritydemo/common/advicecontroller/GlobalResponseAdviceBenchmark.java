@@ -0,0 +1,32 @@
+package com.kyy.springbootsecuritydemo.common.advicecontroller;
+
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+
+/** 응답 래핑(ApiResponse 생성) 비용 */
+@State(Scope.Benchmark)
+public class GlobalResponseAdviceBenchmark {
+
+    private GlobalResponseAdvice advice;
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        var req = new MockHttpServletRequest("GET", "/api/user/ping");
+        req.setServletPath("/api/user/ping");
+        RequestContext.open(req);
+        advice = new GlobalResponseAdvice(req);
+        body = Map.of("hello", "world");
+    }
+
+    @Benchmark
+    public Object beforeBodyWrite() {
+        return advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class, null, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import org.openjdk.jmh.annotations.*;
+
+/** 한 요청에서 일어나는 계층 진입/이탈(filter → servlet → interceptor → controller → service) */
+@State(Scope.Thread)
+public class IndentMdcBenchmark {
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        IndentMdc.clear();
+    }
+
+    @Benchmark
+    public void requestLifecycle() {
+        IndentMdc.push("filter");
+        IndentMdc.push("servlet");
+        IndentMdc.push("interceptor");
+        IndentMdc.push("controller");
+        IndentMdc.push("service");
+        IndentMdc.pop();
+        IndentMdc.pop();
+        IndentMdc.pop();
+        IndentMdc.pop();
+        IndentMdc.pop();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kyy.springbootsecuritydemo.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+
+/** ApiResponse Jackson 직렬화 비용 (Spring Boot 기본 설정과 동일하게 ISO-8601 timestamp) */
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private ApiResponse<Object> response;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        response = ApiResponse.ok(
+                Map.of("username", "user", "roles", List.of("ROLE_USER", "ROLE_ADMIN")),
+                "/api/user/ping", "0190f5c2a7d84e1b", 3L);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/** 헤더 역할 파싱 / 권한 병합 비용 (역할은 RoleRegistry 에 미리 등록 → 비트 마스크 경로) */
+@State(Scope.Benchmark)
+public class AuthorityFilterBenchmark {
+
+    private AuthorityFilter filter;
+    private Collection<? extends GrantedAuthority> current;
+    private Collection<? extends GrantedAuthority> extra;
+
+    @Setup
+    public void setUp() {
+        List.of("ROLE_USER", "ROLE_ADMIN", "ROLE_AUDITOR").forEach(RoleRegistry::intern);
+        filter = new AuthorityFilter("X-Auth-Roles", true, null, null);
+        current = filter.toAuthorities(Set.of("ROLE_USER"));
+        extra = filter.toAuthorities(Set.of("ROLE_ADMIN", "ROLE_AUDITOR"));
+    }
+
+    @Benchmark
+    public Set<String> parseRoles() {
+        return filter.parseRoles("USER, ADMIN,AUDITOR");
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> mergeAuthorities() {
+        return filter.mergeAuthorities(current, extra);
+    }
+
+    @Benchmark
+    public List<?> parseAndMerge() {
+        return List.copyOf(filter.mergeAuthorities(current, filter.toAuthorities(filter.parseRoles("USER,ADMIN"))));
+    }
+}
@@ -0,0 +1,40 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** requireOnPaths 규칙 수에 따른 경로 매칭 비용 (캐시 적중 / 캐시 미스) */
+@State(Scope.Benchmark)
+public class PathRuleMatcherBenchmark {
+
+    @Param({"10", "300"})
+    public int rules;
+
+    private PathRuleMatcher<Set<String>> cached;
+    private PathRuleMatcher<Set<String>> uncached;
+
+    @Setup
+    public void setUp() {
+        Map<String, Set<String>> map = new LinkedHashMap<>();
+        for (int i = 0; i < rules; i++) {
+            map.put("/api/svc" + i + "/**", Set.of("ROLE_SVC" + i));
+        }
+        map.put("/api/admin/**", Set.of("ROLE_ADMIN"));
+        cached = new PathRuleMatcher<>(map, 4096);
+        uncached = new PathRuleMatcher<>(map, 0); // 매 호출마다 캐시를 비움 → 트라이 탐색 비용
+    }
+
+    @Benchmark
+    public List<Set<String>> cacheHit() {
+        return cached.match("/api/admin/users/42");
+    }
+
+    @Benchmark
+    public List<Set<String>> trieLookup() {
+        return uncached.match("/api/admin/users/42");
+    }
+}
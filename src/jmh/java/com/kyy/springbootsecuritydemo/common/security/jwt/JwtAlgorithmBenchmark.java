@@ -0,0 +1,40 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * 알고리즘별 발급(서명) / 검증 비용 (검증 캐시 비활성 → 매번 서명 검증)
+ * ./gradlew jmh -PjmhIncludes=JwtAlgorithmBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtAlgorithmBenchmark {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+
+    @Param({"HS256", "ES256", "RS256"})
+    public String algorithm;
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing ring = JwtKeyRing.generated(SECRET, SignatureAlgorithm.forName(algorithm), 60);
+        provider = new JwtTokenProvider(ring, 60, "bench", 0, 300);
+        token = provider.generate("user", ROLES);
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.generate("user", ROLES);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return provider.parse(token);
+    }
+}
@@ -0,0 +1,40 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/** JWT 발급/검증 비용 (캐시 적중 vs 캐시 비활성) */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtTokenProvider(SECRET, 60, "bench", 10_000, 300);
+        uncached = new JwtTokenProvider(SECRET, 60, "bench", 0, 300);
+        user = User.withUsername("user").password("").authorities("ROLE_USER", "ROLE_ADMIN").build();
+        token = cached.generate(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cached.generate(user);
+    }
+
+    @Benchmark
+    public Object parseCached() {
+        return cached.parse(token);
+    }
+
+    @Benchmark
+    public Object parseUncached() {
+        return uncached.parse(token);
+    }
+}
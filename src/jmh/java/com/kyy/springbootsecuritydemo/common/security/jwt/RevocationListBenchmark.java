@@ -0,0 +1,38 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+/** 회수 확인 비용: 회수 N 건이 있을 때 회수 안 된 jti(대부분의 요청) / 회수된 jti */
+@State(Scope.Benchmark)
+public class RevocationListBenchmark {
+
+    @Param({"0", "1000000"})
+    public int revokedCount;
+
+    private RevocationList list;
+    private String[] liveIds;
+    private String revokedId;
+    private int i;
+
+    @Setup
+    public void setUp() {
+        list = new RevocationList(1 << 24);
+        long exp = System.currentTimeMillis() + 3_600_000;
+        for (int n = 0; n < revokedCount; n++) list.revoke(TokenIds.newId(), exp);
+        revokedId = TokenIds.newId();
+        if (revokedCount > 0) list.revoke(revokedId, exp);
+
+        liveIds = new String[1024];
+        for (int n = 0; n < liveIds.length; n++) liveIds[n] = TokenIds.newId();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return list.isRevoked(liveIds[i++ & (liveIds.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return list.isRevoked(revokedId);
+    }
+}
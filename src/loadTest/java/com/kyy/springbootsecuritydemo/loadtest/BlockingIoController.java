@@ -0,0 +1,19 @@
+package com.kyy.springbootsecuritydemo.loadtest;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 부하 비교용 엔드포인트 (loadTest 소스셋에만 존재)
+ * - 외부 API/DB 대기를 흉내 낸 블로킹 지연 → 요청 스레드가 묶이는 상황 재현
+ */
+@RestController
+public class BlockingIoController {
+
+    @GetMapping("/api/public/loadtest/io")
+    public String io(@RequestParam(defaultValue = "20") long ms) throws InterruptedException {
+        Thread.sleep(ms);
+        return "ok";
+    }
+}
@@ -0,0 +1,153 @@
+package com.kyy.springbootsecuritydemo.loadtest;
+
+import com.kyy.springbootsecuritydemo.SpringbootSecurityDemoApplication;
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyHistogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드(virtual 프로필) 부하 비교
+ * - 같은 JVM 에서 앱을 모드별로 한 번씩 띄우고, 고정 동시 사용자 수(closed loop)로 요청을 보냄
+ * - 시나리오: io(블로킹 지연 엔드포인트), auth(JWT + DB 모드 principal 조회)
+ * - 실행: ./gradlew loadTest -PjavaVersion=21 [-Dload.concurrency=2000 -Dload.seconds=15 -Dload.ioMillis=20]
+ * 부하 생성기도 같은 프로세스의 CPU 를 쓰므로 절대값보다 두 모드의 상대 비교용
+ */
+public final class ThreadModeLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private ThreadModeLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 2000);
+        int seconds = Integer.getInteger("load.seconds", 15);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int ioMillis = Integer.getInteger("load.ioMillis", 20);
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("WARN: Java " + Runtime.version().feature()
+                    + " → virtual 프로필도 플랫폼 스레드로 동작합니다 (-PjavaVersion=21 로 실행)");
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : List.of("platform", "virtual")) {
+            ConfigurableApplicationContext ctx = start(mode);
+            try {
+                int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+                results.addAll(runScenarios(mode, port, concurrency, warmupSeconds, seconds, ioMillis));
+            } finally {
+                ctx.close();
+            }
+        }
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, ioMillis=%d%n", concurrency, seconds, ioMillis);
+        System.out.printf("%-9s %-6s %10s %8s %9s %9s %9s %9s%n",
+                "mode", "case", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Result r : results) {
+            System.out.printf("%-9s %-6s %10.0f %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    r.mode, r.scenario, r.perSecond, r.errors,
+                    r.latency.p50Ms(), r.latency.p95Ms(), r.latency.p99Ms(), r.latency.maxMs());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        SpringApplication app = new SpringApplication(SpringbootSecurityDemoApplication.class);
+        if (mode.equals("virtual")) app.setAdditionalProfiles("virtual");
+        return app.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--app.logs.indent-mode=off",
+                "--app.security.password.fixed-strength=4"); // 로그인은 토큰 발급용 1 회뿐
+    }
+
+    private static List<Result> runScenarios(String mode, int port, int concurrency,
+                                             int warmupSeconds, int seconds, int ioMillis) throws Exception {
+        ExecutorService clientPool = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(clientPool)
+                    .build();
+            String base = "http://localhost:" + port;
+            String token = login(client, base);
+
+            HttpRequest io = HttpRequest.newBuilder(URI.create(base + "/api/public/loadtest/io?ms=" + ioMillis)).build();
+            HttpRequest auth = HttpRequest.newBuilder(URI.create(base + "/api/user/ping"))
+                    .header("Authorization", "Bearer " + token).build();
+
+            List<Result> out = new ArrayList<>();
+            for (var c : List.of(new Case("io", io), new Case("auth", auth))) {
+                drive(client, clientPool, c.request, concurrency, warmupSeconds); // 워밍업(JIT, 커넥션)
+                Stats s = drive(client, clientPool, c.request, concurrency, seconds);
+                out.add(new Result(mode, c.name, s.ok / (double) seconds, s.errors, s.latency));
+            }
+            return out;
+        } finally {
+            clientPool.shutdownNow();
+        }
+    }
+
+    private static String login(HttpClient client, String base) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"user\",\"password\":\"password\"}"))
+                .build();
+        String body = client.send(req, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher m = TOKEN.matcher(body);
+        if (!m.find()) throw new IllegalStateException("login failed: " + body);
+        return m.group(1);
+    }
+
+    /** concurrency 명의 가상 사용자가 응답을 받는 즉시 다음 요청을 보내는 closed loop */
+    private static Stats drive(HttpClient client, Executor callbacks, HttpRequest req,
+                               int concurrency, int seconds) throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder ok = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        Runnable[] user = new Runnable[1];
+        user[0] = () -> {
+            if (System.nanoTime() >= deadline) {
+                done.countDown();
+                return;
+            }
+            long start = System.nanoTime();
+            client.sendAsync(req, HttpResponse.BodyHandlers.discarding()).whenCompleteAsync((res, ex) -> {
+                latency.record(System.nanoTime() - start);
+                if (ex == null && res.statusCode() < 400) ok.increment();
+                else errors.increment();
+                user[0].run();
+            }, callbacks);
+        };
+        for (int i = 0; i < concurrency; i++) user[0].run();
+
+        done.await(seconds + 60L, TimeUnit.SECONDS);
+        return new Stats(ok.sum(), errors.sum(), latency.snapshot());
+    }
+
+    private record Case(String name, HttpRequest request) {}
+
+    private record Stats(long ok, long errors, LatencyHistogram.Snapshot latency) {}
+
+    private record Result(String mode, String scenario, double perSecond, long errors,
+                          LatencyHistogram.Snapshot latency) {}
+}
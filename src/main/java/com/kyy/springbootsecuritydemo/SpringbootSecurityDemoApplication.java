@@ -1,15 +1,20 @@
 package com.kyy.springbootsecuritydemo;
 
+import com.kyy.springbootsecuritydemo.common.startup.StartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAspectJAutoProxy
+@EnableScheduling
 public class SpringbootSecurityDemoApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringbootSecurityDemoApplication.class, args);
+        SpringApplication app = new SpringApplication(SpringbootSecurityDemoApplication.class);
+        StartupReport.install(app, args); // app.startup.report=true 또는 fast-start 프로필일 때만
+        app.run(args);
     }
 
 }
@@ -1,8 +1,9 @@
 package com.kyy.springbootsecuritydemo.common.advicecontroller;
 
-import com.kyy.springbootsecuritydemo.common.interceptor.TraceInterceptor;
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
 import com.kyy.springbootsecuritydemo.common.response.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.*;
 import org.springframework.http.server.*;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalResponseAdvice implements ResponseBodyAdvice<Object> {
 
     private final HttpServletRequest request;
@@ -36,13 +38,15 @@ public class GlobalResponseAdvice implements ResponseBodyAdvice<Object> {
         // 1) 스킵 조건: 이미 래핑됨, 스트리밍/리소스/바이너리, HTML
         if (body instanceof ApiResponse<?>) return body;
         if (body instanceof org.springframework.core.io.Resource) return body;
+        if (body instanceof byte[]) return body; // 미리 직렬화한 본문(JWKS 등)
         if (org.springframework.http.MediaType.TEXT_HTML.includes(selectedContentType)) return body;
         if (body instanceof org.springframework.http.ProblemDetail) return body; // Spring 기본 오류 포맷 사용 시
 
         // 2) 공통 정보 채우기
         String path = request.getServletPath();
-        String traceId = (String) request.getAttribute(TraceInterceptor.ATTR_TRACE_ID);
-        Long duration = TraceInterceptor.durationMs(request);
+        RequestContext ctx = RequestContext.of(request);
+        String traceId = ctx != null ? ctx.traceId() : null;
+        Long duration = ctx != null ? ctx.elapsedMillis() : null;
 
         // 3) ResponseEntity면 내부 바디를 감싸서 재구성
         if (body instanceof ResponseEntity<?> re) {
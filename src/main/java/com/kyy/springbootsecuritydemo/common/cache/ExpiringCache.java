@@ -0,0 +1,102 @@
+package com.kyy.springbootsecuritydemo.common.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 항목별 만료 시각을 가지는 크기 제한 캐시
+ * - get 시 만료된 항목은 즉시 제거(만료 시각 이후로는 절대 반환하지 않음)
+ * - maxSize 도달 시 만료 항목을 먼저 정리하고, 그래도 가득 차면 1/8 을 임의 제거
+ * - hit/miss/eviction 카운터 제공
+ */
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> map;
+    private final int maxSize;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    }
+
+    public V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (e.expiresAtMillis <= System.currentTimeMillis()) {
+            if (map.remove(key, e)) evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.value;
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) return; // 이미 만료 → 저장할 필요 없음
+        if (map.size() >= maxSize) sweep(now);
+        map.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public void remove(K key) {
+        if (map.remove(key) != null) evictions.increment();
+    }
+
+    public void clear() {
+        int n = map.size();
+        map.clear();
+        evictions.add(n);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public Stats stats() {
+        long h = hits.sum(), m = misses.sum();
+        double ratio = (h + m) == 0 ? 0.0 : (double) h / (h + m);
+        return new Stats(h, m, evictions.sum(), map.size(), maxSize, ratio);
+    }
+
+    private void sweep(long now) {
+        // 동시에 여러 스레드가 전체 순회하지 않도록 한 스레드만 정리(나머지는 잠시 초과 허용)
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            int removed = 0;
+            for (Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator(); it.hasNext(); ) {
+                if (it.next().getValue().expiresAtMillis <= now) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            // 만료 정리로 부족하면 해시 순서대로 1/8 제거 → 다음 정리까지 maxSize/8 번의 put 여유
+            if (map.size() >= maxSize) {
+                int toRemove = Math.max(1, maxSize / 8);
+                for (Iterator<K> it = map.keySet().iterator(); it.hasNext() && toRemove > 0; toRemove--) {
+                    it.next();
+                    it.remove();
+                    removed++;
+                }
+            }
+            evictions.add(removed);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    public record Stats(long hits, long misses, long evictions, int size, int maxSize, double hitRatio) {}
+}
@@ -1,18 +1,24 @@
 package com.kyy.springbootsecuritydemo.common.config;
 
 import com.kyy.springbootsecuritydemo.common.security.domain.entity.UserAccount;
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportFormat;
+import com.kyy.springbootsecuritydemo.common.security.importer.UserImportService;
 import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 @Configuration
 public class BootstrapData {
 
     @Bean
+    @Order(1)
     CommandLineRunner initUsers(UserAccountRepository repo, PasswordEncoder encoder) {
         return args -> {
             if (repo.findByUsername("user").isEmpty()) {
@@ -23,4 +29,17 @@ public class BootstrapData {
             }
         };
     }
+
+    /** app.import.users.file 이 지정되면 기동 시 일괄 등록 (이미 있는 username 은 건너뜀) */
+    @Bean
+    @Order(2)
+    CommandLineRunner importUsers(UserImportService importService,
+                                  @Value("${app.import.users.file:}") String file,
+                                  @Value("${app.import.users.format:}") String format) {
+        return args -> {
+            if (file.isBlank()) return;
+            Path path = Path.of(file);
+            importService.importFile(path, ImportFormat.from(format, path.getFileName().toString()));
+        };
+    }
 }
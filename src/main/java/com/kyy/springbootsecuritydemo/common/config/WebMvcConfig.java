@@ -1,15 +1,25 @@
 package com.kyy.springbootsecuritydemo.common.config;
 
 import com.kyy.springbootsecuritydemo.common.interceptor.TraceInterceptor;
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 
 import org.springframework.web.servlet.config.annotation.*;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final LatencyRegistry latencyRegistry;
+
+    public WebMvcConfig(LatencyRegistry latencyRegistry) {
+        this.latencyRegistry = latencyRegistry;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry reg) {
-        reg.addInterceptor(new TraceInterceptor())
+        reg.addInterceptor(new TraceInterceptor(latencyRegistry))
                 .addPathPatterns("/**")
                 .excludePathPatterns( // 정적/문서/H2 등 제외
                         "/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**",
@@ -0,0 +1,85 @@
+package com.kyy.springbootsecuritydemo.common.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청당 1개 생성되는 공통 컨텍스트 (TraceFilter 에서 생성)
+ * - traceId: X-Request-Id 헤더 또는 TraceIds.next()
+ * - startNanos: 필터 진입 시각(단조 시계), principal: 인증 필터가 채움
+ * - 요청 스레드에서는 ThreadLocal 로, 그 외(async/error dispatch 등)에서는 요청 속성 1개로 조회
+ */
+public final class RequestContext {
+
+    public static final String HEADER = "X-Request-Id";
+    private static final String ATTR = RequestContext.class.getName();
+    private static final int MAX_INBOUND_ID_LENGTH = 128;
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final long startNanos;
+    private volatile String principal;
+
+    private RequestContext(String traceId, long startNanos) {
+        this.traceId = traceId;
+        this.startNanos = startNanos;
+    }
+
+    /** 최초 dispatch: 생성 후 요청 속성/현재 스레드에 연결 */
+    public static RequestContext open(HttpServletRequest req) {
+        String id = req.getHeader(HEADER);
+        if (id == null || id.isBlank() || id.length() > MAX_INBOUND_ID_LENGTH) id = TraceIds.next();
+        RequestContext ctx = new RequestContext(id, System.nanoTime());
+        req.setAttribute(ATTR, ctx);
+        CURRENT.set(ctx);
+        return ctx;
+    }
+
+    /** async dispatch 등 재진입: 기존 컨텍스트를 현재 스레드에 다시 연결(없으면 새로 생성) */
+    public static RequestContext resume(HttpServletRequest req) {
+        if (req.getAttribute(ATTR) instanceof RequestContext ctx) {
+            CURRENT.set(ctx);
+            return ctx;
+        }
+        return open(req);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /** 현재 요청 스레드의 컨텍스트 (없으면 null) */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /** 현재 스레드 → 요청 속성 순으로 조회 (없으면 null) */
+    public static RequestContext of(HttpServletRequest req) {
+        RequestContext ctx = CURRENT.get();
+        if (ctx != null) return ctx;
+        return req.getAttribute(ATTR) instanceof RequestContext r ? r : null;
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public long startNanos() {
+        return startNanos;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long elapsedMillis() {
+        return elapsedNanos() / 1_000_000;
+    }
+
+    public String principal() {
+        return principal;
+    }
+
+    public void setPrincipal(String principal) {
+        this.principal = principal;
+    }
+}
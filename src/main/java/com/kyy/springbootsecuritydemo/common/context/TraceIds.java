@@ -0,0 +1,29 @@
+package com.kyy.springbootsecuritydemo.common.context;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 비암호학적, 시간순 정렬 가능한 trace id
+ * - 앞 12자리: epoch millis(48bit) hex, 뒤 12자리: ThreadLocalRandom 48bit hex
+ * - UUID.randomUUID() 와 달리 SecureRandom 잠금 경합이 없음 (추측 불가능성은 필요 없는 용도)
+ */
+public final class TraceIds {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIds() {}
+
+    public static String next() {
+        char[] out = new char[24];
+        writeHex(out, 0, System.currentTimeMillis());
+        writeHex(out, 12, ThreadLocalRandom.current().nextLong());
+        return new String(out);
+    }
+
+    private static void writeHex(char[] out, int offset, long v) {
+        for (int i = offset + 11; i >= offset; i--) {
+            out[i] = HEX[(int) (v & 0xF)];
+            v >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.kyy.springbootsecuritydemo.common.entrypoint;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 401/403 처럼 본문이 고정된 JSON 오류 응답을 미리 만든 UTF-8 바이트 템플릿으로 작성
+ * - 요청마다 바뀌는 것은 timestamp(밀리초 단위 캐시)와 path(JSON 이스케이프) 뿐
+ * - 형식: {"timestamp":"...","status":401,"error":"...","code":"...","message":"...","path":"..."}
+ */
+public final class JsonErrorBody {
+
+    private static final byte[] HEAD = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TAIL = "\"}\n".getBytes(StandardCharsets.UTF_8);
+    private static final MediaType JSON_UTF8 = MediaType.parseMediaType("application/json;charset=UTF-8");
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static volatile CachedTimestamp timestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    private final int status;
+    private final byte[] middle; // ","status":..,"path":"
+
+    public JsonErrorBody(HttpStatus status, String code, String message) {
+        this.status = status.value();
+        this.middle = ("\",\"status\":" + status.value()
+                + ",\"error\":\"" + quote(status.getReasonPhrase())
+                + "\",\"code\":\"" + quote(code)
+                + "\",\"message\":\"" + quote(message)
+                + "\",\"path\":\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public void write(HttpServletResponse res, String path) throws IOException {
+        byte[] body = render(path);
+        res.setStatus(status);
+        res.setContentType("application/json;charset=UTF-8");
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
+    /** WebFlux 용 (reactive 프로필의 401/403 핸들러) */
+    public Mono<Void> write(ServerHttpResponse res, String path) {
+        byte[] body = render(path);
+        res.setStatusCode(HttpStatus.valueOf(status));
+        res.getHeaders().setContentType(JSON_UTF8);
+        res.getHeaders().setContentLength(body.length);
+        return res.writeWith(Mono.just(res.bufferFactory().wrap(body)));
+    }
+
+    public byte[] render(String path) {
+        byte[] ts = timestampBytes();
+        String p = path != null ? path : "";
+        byte[] out = new byte[HEAD.length + ts.length + middle.length + p.length() * 6 + TAIL.length];
+        int pos = 0;
+        System.arraycopy(HEAD, 0, out, pos, HEAD.length); pos += HEAD.length;
+        System.arraycopy(ts, 0, out, pos, ts.length); pos += ts.length;
+        System.arraycopy(middle, 0, out, pos, middle.length); pos += middle.length;
+        pos = writeEscaped(p, out, pos);
+        System.arraycopy(TAIL, 0, out, pos, TAIL.length); pos += TAIL.length;
+        return pos == out.length ? out : Arrays.copyOf(out, pos);
+    }
+
+    /** JSON 문자열 이스케이프: ", \, 제어문자, 비ASCII 는 \\uXXXX (출력은 항상 ASCII) */
+    private static int writeEscaped(String s, byte[] out, int pos) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                out[pos++] = '\\';
+                out[pos++] = (byte) c;
+            } else if (c >= 0x20 && c < 0x7F) {
+                out[pos++] = (byte) c;
+            } else {
+                out[pos++] = '\\';
+                out[pos++] = 'u';
+                out[pos++] = HEX[(c >> 12) & 0xF];
+                out[pos++] = HEX[(c >> 8) & 0xF];
+                out[pos++] = HEX[(c >> 4) & 0xF];
+                out[pos++] = HEX[c & 0xF];
+            }
+        }
+        return pos;
+    }
+
+    private static byte[] timestampBytes() {
+        long now = System.currentTimeMillis();
+        CachedTimestamp cached = timestamp;
+        if (cached.millis == now) return cached.bytes;
+        byte[] bytes = Instant.ofEpochMilli(now).toString().getBytes(StandardCharsets.US_ASCII);
+        timestamp = new CachedTimestamp(now, bytes);
+        return bytes;
+    }
+
+    private static String quote(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private record CachedTimestamp(long millis, byte[] bytes) {}
+}
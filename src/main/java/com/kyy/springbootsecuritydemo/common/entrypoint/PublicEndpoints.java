@@ -4,6 +4,8 @@ public final class PublicEndpoints {
     private PublicEndpoints() {}
     public static final String[] PUBLIC = {
             "/auth/login",
+            "/auth/refresh",
+            "/.well-known/jwks.json",
             "/api/public/**",
             "/actuator/health",
             "/h2-console/**",
@@ -0,0 +1,15 @@
+package com.kyy.springbootsecuritydemo.common.entrypoint;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/** RestAccessDeniedHandler 의 WebFlux 버전 (같은 403 본문) */
+public class RestServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException ex) {
+        return RestAccessDeniedHandler.BODY.write(exchange.getResponse(), exchange.getRequest().getPath().value());
+    }
+}
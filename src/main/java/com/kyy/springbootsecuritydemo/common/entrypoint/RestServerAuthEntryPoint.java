@@ -0,0 +1,15 @@
+package com.kyy.springbootsecuritydemo.common.entrypoint;
+
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/** RestAuthEntryPoint 의 WebFlux 버전 (같은 401 본문) */
+public class RestServerAuthEntryPoint implements ServerAuthenticationEntryPoint {
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+        return RestAuthEntryPoint.BODY.write(exchange.getResponse(), exchange.getRequest().getPath().value());
+    }
+}
@@ -1,16 +1,25 @@
 package com.kyy.springbootsecuritydemo.common.error;
 
-import com.kyy.springbootsecuritydemo.common.interceptor.TraceInterceptor;
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
 import com.kyy.springbootsecuritydemo.common.response.ApiResponse;
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportInProgressException;
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportTooLargeException;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginBusyException;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginRateLimitedException;
+import com.kyy.springbootsecuritydemo.common.security.token.InvalidRefreshTokenException;
+import io.jsonwebtoken.JwtException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.BindException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -23,6 +32,7 @@ import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     // 400 - 잘못된 요청 바디/파라미터
@@ -51,18 +61,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(api.status).body(api);
     }
 
-    // 401 - 인증 실패(폼로그인/JWT 등)
-    @ExceptionHandler({ BadCredentialsException.class, UsernameNotFoundException.class })
+    // 401 - 인증 실패(폼로그인/JWT 등, 비활성/잠금 계정도 사유를 드러내지 않음)
+    @ExceptionHandler({ BadCredentialsException.class, UsernameNotFoundException.class,
+            DisabledException.class, LockedException.class })
     public ResponseEntity<ApiError> handleAuthFail(Exception ex, HttpServletRequest req) {
         return build(HttpStatus.UNAUTHORIZED, "AUTH_FAILED", "인증에 실패했습니다.", req);
     }
 
+    // 401 - 컨트롤러에서 직접 파싱한 JWT 가 잘못됨/만료
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<ApiError> handleInvalidToken(JwtException ex, HttpServletRequest req) {
+        return build(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "토큰이 유효하지 않습니다.", req);
+    }
+
+    // 401 - 리프레시 토큰 없음/만료/재사용 (사유는 응답에 노출하지 않음)
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ApiError> handleInvalidRefresh(InvalidRefreshTokenException ex, HttpServletRequest req) {
+        return build(HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", "다시 로그인하세요.", req);
+    }
+
     // 403 - 권한 부족 (필터/설정에서 못 잡혔을 때의 안전망)
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiError> handleDenied(AccessDeniedException ex, HttpServletRequest req) {
         return build(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다.", req);
     }
 
+    // 503 - 로그인 해시 작업 큐 포화 (즉시 거절, 잠시 후 재시도 유도)
+    @ExceptionHandler(LoginBusyException.class)
+    public ResponseEntity<ApiError> handleLoginBusy(LoginBusyException ex, HttpServletRequest req) {
+        var api = base(HttpStatus.SERVICE_UNAVAILABLE, "LOGIN_BUSY", "로그인 요청이 많습니다. 잠시 후 다시 시도하세요.", req);
+        return ResponseEntity.status(api.status).header(HttpHeaders.RETRY_AFTER, "1").body(api);
+    }
+
+    // 429 - 사용자명/IP 별 로그인 시도 한도 초과 (해시 전에 거절)
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<ApiError> handleLoginRateLimited(LoginRateLimitedException ex, HttpServletRequest req) {
+        var api = base(HttpStatus.TOO_MANY_REQUESTS, "LOGIN_RATE_LIMITED", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도하세요.", req);
+        return ResponseEntity.status(api.status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.retryAfterSeconds())).body(api);
+    }
+
+    // 409 - 사용자 일괄 등록이 이미 실행 중
+    @ExceptionHandler(ImportInProgressException.class)
+    public ResponseEntity<ApiError> handleImportBusy(ImportInProgressException ex, HttpServletRequest req) {
+        return build(HttpStatus.CONFLICT, "IMPORT_IN_PROGRESS", "사용자 일괄 등록이 이미 진행 중입니다.", req);
+    }
+
+    // 413 - 일괄 등록 본문이 app.import.users.max-upload-size 초과
+    @ExceptionHandler(ImportTooLargeException.class)
+    public ResponseEntity<ApiError> handleImportTooLarge(ImportTooLargeException ex, HttpServletRequest req) {
+        return build(HttpStatus.PAYLOAD_TOO_LARGE, "IMPORT_TOO_LARGE", "업로드 본문이 허용 크기를 넘었습니다.", req);
+    }
+
     // 404 - 라우팅 없음 (옵션: yml 설정 필요)
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ApiError> handleNotFound(NoHandlerFoundException ex, HttpServletRequest req) {
@@ -149,8 +199,9 @@ public class GlobalExceptionHandler {
 
     private ResponseEntity<ApiResponse<Void>> wrap(HttpStatus status, String code, String msg, HttpServletRequest req) {
         String path = req.getServletPath();
-        String traceId = (String) req.getAttribute(TraceInterceptor.ATTR_TRACE_ID);
-        Long duration = TraceInterceptor.durationMs(req);
+        RequestContext ctx = RequestContext.of(req);
+        String traceId = ctx != null ? ctx.traceId() : null;
+        Long duration = ctx != null ? ctx.elapsedMillis() : null;
         var body = ApiResponse.<Void>error(code, msg, path, traceId, duration);
         return ResponseEntity.status(status).body(body);
     }
@@ -1,37 +1,31 @@
 package com.kyy.springbootsecuritydemo.common.interceptor;
 
 
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyRegistry;
 import jakarta.servlet.http.*;
-import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.UUID;
-
+/**
+ * 핸들러별 지연시간 기록
+ * trace id 생성/헤더/MDC 는 TraceFilter 가 RequestContext 로 한 번만 처리
+ */
 public class TraceInterceptor implements HandlerInterceptor {
-    public static final String ATTR_TRACE_ID = "traceId";
-    public static final String ATTR_START_AT = "startAt";
 
-    @Override
-    public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
-        String traceId = req.getHeader("X-Request-Id");
-        if (traceId == null || traceId.isBlank()) traceId = UUID.randomUUID().toString();
-        req.setAttribute(ATTR_TRACE_ID, traceId);
-        req.setAttribute(ATTR_START_AT, System.currentTimeMillis());
-        MDC.put(ATTR_TRACE_ID, traceId);
-        return true;
+    private final LatencyRegistry latency;
+
+    public TraceInterceptor(LatencyRegistry latency) {
+        this.latency = latency;
     }
 
     @Override
     public void afterCompletion(HttpServletRequest req, HttpServletResponse res, Object handler, Exception ex) {
-        Object t = req.getAttribute(ATTR_TRACE_ID);
-        if (t != null) res.setHeader("X-Request-Id", t.toString());
-        MDC.remove(ATTR_TRACE_ID);
-    }
-
-    /** 유틸: 현재 요청 경과 시간 */
-    public static Long durationMs(HttpServletRequest req) {
-        Object start = req.getAttribute(ATTR_START_AT);
-        if (start instanceof Long s) return System.currentTimeMillis() - s;
-        return null;
+        if (!(handler instanceof HandlerMethod hm)) return;
+        RequestContext ctx = RequestContext.of(req);
+        if (ctx == null) return;
+        // 예외가 전파된 채 끝났는데 상태가 아직 2xx 면 컨테이너가 500 으로 바꾸므로 5xx 로 집계
+        int status = ex != null && res.getStatus() < 400 ? 500 : res.getStatus();
+        latency.record(hm, status, ctx.elapsedNanos());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 스레드와 stdout 을 분리하는 비동기 배치 appender
+ * - 고정 크기 링 버퍼(ArrayBlockingQueue)에 넣기만 하고 반환
+ * - 워커 스레드가 최대 batchSize 개씩 꺼내 하위 appender 로 쓰고, 배치마다 한 번만 flush
+ * - 남은 용량 < discardingThreshold 이면 INFO 이하 버림(WARN/ERROR 는 유지)
+ * - neverBlock=true 면 버퍼가 가득 찰 때 WARN/ERROR 도 버림(요청 스레드 절대 대기 안 함)
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> aai = new AppenderAttachableImpl<>();
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread worker;
+
+    private int queueSize = 8192;
+    private int batchSize = 512;
+    private int discardingThreshold = -1; // 미지정 시 queueSize / 5
+    private boolean neverBlock = false;
+    private int maxFlushTimeMillis = 1000;
+
+    @Override
+    public void start() {
+        if (isStarted()) return;
+        if (!aai.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to [" + name + "]");
+            return;
+        }
+        if (queueSize < 1 || batchSize < 1) {
+            addError("queueSize and batchSize must be positive");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        if (discardingThreshold < 0) discardingThreshold = queueSize / 5;
+
+        worker = new Thread(this::drainLoop, "AsyncLog-" + name);
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) return;
+        super.stop(); // started=false → 워커는 남은 이벤트를 모두 쓰고 종료
+        try {
+            worker.join(maxFlushTimeMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) addWarn("Max flush time reached, " + queue.size() + " events may be lost");
+        aai.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (queue.remainingCapacity() < discardingThreshold && event.getLevel().toInt() <= Level.INFO_INT) {
+            dropped.increment();
+            return;
+        }
+        event.prepareForDeferredProcessing(); // MDC/메시지 포맷을 호출 스레드에서 고정
+        if (neverBlock) {
+            if (!queue.offer(event)) dropped.increment();
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+        while (isStarted() || !queue.isEmpty()) {
+            try {
+                ILoggingEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            for (ILoggingEvent e : batch) aai.appendLoopOnAppenders(e);
+            appended.add(batch.size());
+            batches.increment();
+            batch.clear();
+            flushAppenders();
+        }
+        flushAppenders();
+    }
+
+    private void flushAppenders() {
+        for (Iterator<Appender<ILoggingEvent>> it = aai.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof OutputStreamAppender<ILoggingEvent> osa) {
+                OutputStream os = osa.getOutputStream();
+                if (os == null) continue;
+                try {
+                    os.flush(); // 하위 appender 에는 이 워커 스레드만 쓰므로 별도 잠금 불필요
+                } catch (IOException e) {
+                    addError("Failed to flush [" + osa.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    public Stats stats() {
+        int queued = queue != null ? queue.size() : 0;
+        return new Stats(queueSize, queued, queueSize == 0 ? 0.0 : (double) queued / queueSize,
+                appended.sum(), dropped.sum(), batches.sum());
+    }
+
+    /** root 로거에 붙은 이름의 appender 조회 (지표 노출용) */
+    public static BatchingAsyncAppender find(String appenderName) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext ctx)) return null;
+        return ctx.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(appenderName) instanceof BatchingAsyncAppender a
+                ? a : null;
+    }
+
+    public record Stats(int capacity, int queued, double fillRatio, long appended, long dropped, long batches) {}
+
+    // ---- 설정 (logback-spring.xml) ----
+
+    public void setQueueSize(int queueSize) { this.queueSize = queueSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+    public void setDiscardingThreshold(int discardingThreshold) { this.discardingThreshold = discardingThreshold; }
+    public void setNeverBlock(boolean neverBlock) { this.neverBlock = neverBlock; }
+    public void setMaxFlushTimeMillis(int maxFlushTimeMillis) { this.maxFlushTimeMillis = maxFlushTimeMillis; }
+
+    // ---- AppenderAttachable ----
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        aai.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return aai.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return aai.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return aai.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        aai.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return aai.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return aai.detachAppender(name);
+    }
+}
@@ -0,0 +1,94 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 로그용 반환값 요약 문자열 (최대 길이까지만 작성)
+ * - 문자열/컬렉션/Map/배열/ResponseEntity/Optional 은 원소 단위로 써 내려가다 한도에서 중단
+ *   → 큰 컬렉션의 전체 toString 을 만들지 않음
+ * - 그 외 객체는 toString 결과를 잘라서 사용(객체 자체의 toString 비용은 피할 수 없음)
+ */
+final class BoundedRenderer {
+
+    private static final String TRUNCATED = "...(truncated)";
+    private static final Full FULL = new Full();
+
+    private BoundedRenderer() {}
+
+    static String render(Object value, int maxLength) {
+        StringBuilder sb = new StringBuilder(Math.min(maxLength, 64) + TRUNCATED.length());
+        try {
+            append(sb, value, maxLength);
+        } catch (Full full) {
+            sb.append(TRUNCATED);
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, Object v, int max) {
+        if (v == null) {
+            write(sb, "null", max);
+        } else if (v instanceof CharSequence cs) {
+            write(sb, cs, max);
+        } else if (v instanceof ResponseEntity<?> re) {
+            write(sb, re.getStatusCode().toString(), max);
+            write(sb, " ", max);
+            append(sb, re.getBody(), max);
+        } else if (v instanceof Optional<?> o) {
+            write(sb, "Optional[", max);
+            append(sb, o.orElse(null), max);
+            write(sb, "]", max);
+        } else if (v instanceof Collection<?> c) {
+            write(sb, "[", max);
+            boolean first = true;
+            for (Object e : c) {
+                if (!first) write(sb, ", ", max);
+                append(sb, e, max);
+                first = false;
+            }
+            write(sb, "]", max);
+        } else if (v instanceof Map<?, ?> m) {
+            write(sb, "{", max);
+            boolean first = true;
+            for (Map.Entry<?, ?> e : m.entrySet()) {
+                if (!first) write(sb, ", ", max);
+                append(sb, e.getKey(), max);
+                write(sb, "=", max);
+                append(sb, e.getValue(), max);
+                first = false;
+            }
+            write(sb, "}", max);
+        } else if (v.getClass().isArray()) {
+            write(sb, "[", max);
+            int n = Array.getLength(v);
+            for (int i = 0; i < n; i++) {
+                if (i > 0) write(sb, ", ", max);
+                append(sb, Array.get(v, i), max);
+            }
+            write(sb, "]", max);
+        } else {
+            write(sb, String.valueOf(v), max);
+        }
+    }
+
+    private static void write(StringBuilder sb, CharSequence cs, int max) {
+        int room = max - sb.length();
+        if (cs.length() > room) {
+            sb.append(cs, 0, Math.max(room, 0));
+            throw FULL;
+        }
+        sb.append(cs);
+    }
+
+    /** 한도 도달 신호 (스택트레이스 없는 재사용 예외) */
+    private static final class Full extends RuntimeException {
+        Full() {
+            super(null, null, false, false);
+        }
+    }
+}
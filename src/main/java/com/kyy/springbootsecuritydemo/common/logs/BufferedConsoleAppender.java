@@ -0,0 +1,37 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import ch.qos.logback.core.OutputStreamAppender;
+
+import java.io.*;
+
+/**
+ * stdout 으로 쓰는 버퍼드 appender
+ * - System.out(PrintStream) 은 이벤트마다 flush 되므로 직접 FileDescriptor.out 에 버퍼를 씌움
+ * - immediateFlush=false 로 두고 BatchingAsyncAppender 뒤에 붙이면 배치 단위로만 flush
+ * - stop 시 stdout 자체는 닫지 않음(flush 만)
+ */
+public class BufferedConsoleAppender<E> extends OutputStreamAppender<E> {
+
+    private int bufferSize = 64 * 1024;
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void start() {
+        OutputStream stdout = new FilterOutputStream(new FileOutputStream(FileDescriptor.out)) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len); // FilterOutputStream 기본 구현은 1바이트씩 씀
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        setOutputStream(new BufferedOutputStream(stdout, bufferSize));
+        super.start();
+    }
+}
@@ -4,10 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kyy.springbootsecuritydemo.common.filter.JwtAuthenticationFilter;
 import com.kyy.springbootsecuritydemo.common.filter.JwtProvider;
 import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.*;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class FilterConfig {
 
     private final JwtProvider jwtProvider;
@@ -2,9 +2,9 @@ package com.kyy.springbootsecuritydemo.common.logs;
 
 import jakarta.servlet.http.*;
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
-public class IndentInterceptor implements HandlerInterceptor {
+public class IndentInterceptor implements AsyncHandlerInterceptor {
     private static final Logger log = LoggerFactory.getLogger(IndentInterceptor.class);
 
     @Override
@@ -19,4 +19,10 @@ public class IndentInterceptor implements HandlerInterceptor {
         log.info("afterCompletion {}", handler);
         IndentMdc.pop();
     }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest req, HttpServletResponse res, Object handler) {
+        // 비동기 처리 시작 시 afterCompletion 은 async dispatch 쪽에서만 호출됨 → 여기서 짝 맞춤
+        IndentMdc.pop();
+    }
 }
@@ -1,41 +1,70 @@
 package com.kyy.springbootsecuritydemo.common.logs;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 계층(filter > servlet > interceptor > controller > service) 들여쓰기용 MDC
+ * - 스택 대신 "라벨 경로 트리"의 현재 노드만 스레드에 보관
+ *   → 같은 라벨 순서의 경로 문자열/들여쓰기 문자열은 최초 1회만 만들고 재사용(push/pop 시 할당 없음)
+ * - Mode.AUTO: 계층 로거(common.logs 패키지)가 INFO 미만이면 MDC 작업 자체를 생략
+ */
 public class IndentMdc {
     private static final String KEY_STACK = "indentStack";
     private static final String KEY_INDENT = "indent";
 
+    private static final Logger LAYER_LOG = LoggerFactory.getLogger(IndentMdc.class.getPackageName());
+    private static final String[] INDENTS = precomputeIndents(32);
+    private static final Node ROOT = new Node(null, null); // INDENTS 이후에 초기화되어야 함
+
+    /** AUTO: 로거 레벨에 따름, ON: 항상, OFF: 항상 생략 */
+    public enum Mode { AUTO, ON, OFF }
+
+    private static volatile Mode mode = Mode.AUTO;
+
+    public static void setMode(Mode m) {
+        mode = m != null ? m : Mode.AUTO;
+    }
+
     public static void push(String label) {
-        Deque<String> stack = get();
-        stack.push(label);
-        MDC.put(KEY_STACK, String.join(">", stack)); // 필요하면 추적용
-        MDC.put(KEY_INDENT, renderIndent(stack.size()));
+        if (!active()) return;
+        Node node = LocalStack.HOLDER.get().child(label);
+        LocalStack.HOLDER.set(node);
+        MDC.put(KEY_STACK, node.path); // 필요하면 추적용
+        MDC.put(KEY_INDENT, node.indent);
     }
 
     public static void pop() {
-        Deque<String> stack = get();
-        if (!stack.isEmpty()) stack.pop();
-        MDC.put(KEY_STACK, String.join(">", stack));
-        MDC.put(KEY_INDENT, renderIndent(stack.size()));
+        if (!active()) return;
+        Node node = LocalStack.HOLDER.get();
+        if (node != ROOT) node = node.parent;
+        LocalStack.HOLDER.set(node);
+        MDC.put(KEY_STACK, node.path);
+        MDC.put(KEY_INDENT, node.indent);
     }
 
     public static void clear() {
         MDC.remove(KEY_STACK);
         MDC.remove(KEY_INDENT);
+        LocalStack.HOLDER.remove(); // 짝이 안 맞은 push 가 스레드에 남지 않도록
     }
 
-    private static Deque<String> get() {
-        @SuppressWarnings("unchecked")
-        Deque<String> stack = (Deque<String>) LocalStack.HOLDER.get();
-        if (stack == null) {
-            stack = new ArrayDeque<>();
-            LocalStack.HOLDER.set(stack);
-        }
-        return stack;
+    private static boolean active() {
+        Mode m = mode;
+        return m == Mode.ON || (m == Mode.AUTO && LAYER_LOG.isInfoEnabled());
+    }
+
+    private static String[] precomputeIndents(int n) {
+        String[] indents = new String[n];
+        for (int depth = 0; depth < n; depth++) indents[depth] = renderIndent(depth);
+        return indents;
+    }
+
+    private static String indentOf(int depth) {
+        return depth < INDENTS.length ? INDENTS[depth] : renderIndent(depth);
     }
 
     private static String renderIndent(int depth) {
@@ -47,8 +76,34 @@ public class IndentMdc {
         return sb.toString();
     }
 
-    /** 요청 lifecycle 끝에 반드시 clear 필요 */
+    /** 라벨 경로 트리 노드: path 는 기존과 같이 "최근>...>최초" 순서 */
+    private static final class Node {
+        final Node parent;
+        final int depth;
+        final String path;
+        final String indent;
+        final ConcurrentHashMap<String, Node> children = new ConcurrentHashMap<>(4);
+
+        Node(Node parent, String label) {
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.path = parent == null ? "" : (parent.depth == 0 ? label : label + ">" + parent.path);
+            this.indent = indentOf(depth);
+        }
+
+        Node child(String label) {
+            Node c = children.get(label);
+            return c != null ? c : children.computeIfAbsent(label, l -> new Node(this, l));
+        }
+    }
+
+    /**
+     * 요청 lifecycle 끝에 반드시 clear 필요
+     * - 스레드당 보관하는 것은 공유 트리 노드 참조 1 개(스택/Deque 없음) → 가상 스레드가 수백만 개여도 스레드당 비용은 항목 1 개
+     * - 트리 노드는 라벨 경로 종류만큼만 생기고 모든 스레드가 공유(요청 수와 무관)
+     * - TraceFilter finally 의 clear() 가 ThreadLocal 을 remove → 풀 스레드에도 남지 않음
+     */
     private static final class LocalStack {
-        static final ThreadLocal<Deque<String>> HOLDER = new ThreadLocal<>();
+        static final ThreadLocal<Node> HOLDER = ThreadLocal.withInitial(() -> ROOT);
     }
-}
\ No newline at end of file
+}
@@ -2,47 +2,84 @@ package com.kyy.springbootsecuritydemo.common.logs;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger; import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controller/Service 진입·이탈 로그
+ * - INFO 가 꺼져 있으면 시그니처/반환값 렌더링을 전혀 하지 않음
+ * - sample-rate=N: 메서드(엔드포인트)별로 N 번 중 1 번만 기록
+ * - 짧은 시그니처는 Method 별로 캐시, 반환값은 max-ret-length 까지만 렌더링
+ * - app.logs.layer.enabled=false 면 빈 자체를 등록하지 않음(Controller/Service 프록시 생성 생략)
+ */
 @Aspect @Component
+@ConditionalOnProperty(name = "app.logs.layer.enabled", havingValue = "true", matchIfMissing = true)
 public class LayerLogAspect {
     private static final Logger log = LoggerFactory.getLogger(LayerLogAspect.class);
 
+    private final int sampleRate;
+    private final int maxRetLength;
+    private final ConcurrentHashMap<Method, MethodLog> methods = new ConcurrentHashMap<>();
+
+    public LayerLogAspect(
+            @Value("${app.logs.layer.sample-rate:1}") int sampleRate,
+            @Value("${app.logs.layer.max-ret-length:120}") int maxRetLength
+    ) {
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxRetLength = maxRetLength;
+    }
+
     // Controller
     @Around("within(@org.springframework.web.bind.annotation.RestController *) || within(@org.springframework.stereotype.Controller *)")
     public Object aroundController(ProceedingJoinPoint pjp) throws Throwable {
-        IndentMdc.push("controller");
-        try {
-            log.info("enter {}", sig(pjp));
-            Object ret = pjp.proceed();
-            log.info("leave {} -> {}", sig(pjp), shortRet(ret));
-            return ret;
-        } finally {
-            IndentMdc.pop();
-        }
+        return around(pjp, "controller");
     }
 
     // Service
     @Around("within(@org.springframework.stereotype.Service *)")
     public Object aroundService(ProceedingJoinPoint pjp) throws Throwable {
-        IndentMdc.push("service");
+        return around(pjp, "service");
+    }
+
+    private Object around(ProceedingJoinPoint pjp, String layer) throws Throwable {
+        IndentMdc.push(layer);
         try {
-            log.info("enter {}", sig(pjp));
+            if (!log.isInfoEnabled()) return pjp.proceed();
+            MethodLog m = methodLog(pjp);
+            if (!m.sampled(sampleRate)) return pjp.proceed();
+
+            log.info("enter {}", m.signature);
             Object ret = pjp.proceed();
-            log.info("leave {} -> {}", sig(pjp), shortRet(ret));
+            log.info("leave {} -> {}", m.signature, BoundedRenderer.render(ret, maxRetLength));
             return ret;
         } finally {
             IndentMdc.pop();
         }
     }
 
-    private String sig(ProceedingJoinPoint pjp) {
-        return pjp.getSignature().toShortString();
+    private MethodLog methodLog(ProceedingJoinPoint pjp) {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        MethodLog m = methods.get(method);
+        return m != null ? m : methods.computeIfAbsent(method, k -> new MethodLog(pjp.getSignature().toShortString()));
     }
-    private Object shortRet(Object ret) {
-        if (ret == null) return "null";
-        String s = String.valueOf(ret);
-        return s.length() > 120 ? s.substring(0, 120) + "...(truncated)" : s;
+
+    private static final class MethodLog {
+        final String signature;
+        final AtomicLong calls = new AtomicLong();
+
+        MethodLog(String signature) {
+            this.signature = signature;
+        }
+
+        boolean sampled(int rate) {
+            return rate == 1 || calls.getAndIncrement() % rate == 0;
+        }
     }
 }
@@ -1,10 +1,12 @@
 package com.kyy.springbootsecuritydemo.common.logs;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletRegistrationBean;
 import org.springframework.context.annotation.*;
 import org.springframework.web.servlet.DispatcherServlet;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ServletBeanConfig {
     @Bean
     public DispatcherServlet dispatcherServlet() {
@@ -1,34 +1,43 @@
 package com.kyy.springbootsecuritydemo.common.logs;
 
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.UUID;
 
 @Slf4j
 public class TraceFilter extends OncePerRequestFilter {
 
+    public static final String MDC_TRACE_ID = "traceId";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false; // async dispatch 스레드에도 컨텍스트/MDC 복원
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
 
-        String traceId = req.getHeader("X-Request-Id");
-        if (traceId == null || traceId.isBlank()) traceId = UUID.randomUUID().toString();
-        MDC.put("traceId", traceId);
-        res.setHeader("X-Request-Id", traceId);
+        boolean asyncDispatch = isAsyncDispatch(req);
+        RequestContext ctx = asyncDispatch ? RequestContext.resume(req) : RequestContext.open(req);
+        MDC.put(MDC_TRACE_ID, ctx.traceId());
+        if (!asyncDispatch) res.setHeader(RequestContext.HEADER, ctx.traceId());
 
         IndentMdc.push("filter");
         try {
             log.info("enter filter {}", req.getServletPath());
             chain.doFilter(req, res);
-            log.info("leave filter {}", req.getServletPath());
+            // principal 은 인증 필터가 chain 안에서 채움 → 나가는 로그에 함께 남김
+            log.info("leave filter {} principal={} {}ms", req.getServletPath(), ctx.principal(), ctx.elapsedMillis());
         } finally {
             IndentMdc.pop();
             IndentMdc.clear();
-            MDC.remove("traceId");
+            MDC.remove(MDC_TRACE_ID);
+            RequestContext.unbind();
         }
     }
 }
@@ -1,11 +1,19 @@
 package com.kyy.springbootsecuritydemo.common.logs;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebLogMvcConfig implements WebMvcConfigurer {
+
+    public WebLogMvcConfig(@Value("${app.logs.indent-mode:auto}") IndentMdc.Mode indentMode) {
+        IndentMdc.setMode(indentMode); // auto: common.logs 로거가 INFO 미만이면 들여쓰기 MDC 생략
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry reg) {
         reg.addInterceptor(new IndentInterceptor()).addPathPatterns("/**");
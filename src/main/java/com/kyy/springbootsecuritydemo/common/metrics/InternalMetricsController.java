@@ -0,0 +1,107 @@
+package com.kyy.springbootsecuritydemo.common.metrics;
+
+import com.kyy.springbootsecuritydemo.common.cache.ExpiringCache;
+import com.kyy.springbootsecuritydemo.common.logs.BatchingAsyncAppender;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtKeyRing;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.service.BoundedUserCache;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginExecutor;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginRateLimiter;
+import com.kyy.springbootsecuritydemo.common.security.token.RefreshTokenStore;
+import com.kyy.springbootsecuritydemo.common.startup.StartupReport;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 내부 운영용 지표 조회 (외부 APM 없이 확인용)
+ * - /internal/** 는 SecurityConfig 에서 ADMIN 만 허용
+ */
+@RestController
+@RequestMapping("/internal/metrics")
+public class InternalMetricsController {
+
+    private final JwtTokenProvider jwt;
+    private final BoundedUserCache userCache;
+    private final LoginExecutor loginExecutor;
+    private final LatencyRegistry latencyRegistry;
+    private final RefreshTokenStore refreshTokens;
+    private final RevocationList revocations;
+    private final JwtKeyRing keyRing;
+    private final LoginRateLimiter loginRateLimiter;
+
+    public InternalMetricsController(JwtTokenProvider jwt, BoundedUserCache userCache, LoginExecutor loginExecutor,
+                                     LatencyRegistry latencyRegistry, RefreshTokenStore refreshTokens,
+                                     RevocationList revocations, JwtKeyRing keyRing,
+                                     LoginRateLimiter loginRateLimiter) {
+        this.jwt = jwt;
+        this.userCache = userCache;
+        this.loginExecutor = loginExecutor;
+        this.latencyRegistry = latencyRegistry;
+        this.refreshTokens = refreshTokens;
+        this.revocations = revocations;
+        this.keyRing = keyRing;
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    /** 핸들러 × 상태 클래스별 p50/p95/p99/max (ms) */
+    @GetMapping("/latency")
+    public List<LatencyRegistry.RouteLatency> latency() {
+        return latencyRegistry.snapshot();
+    }
+
+    @GetMapping("/jwt-cache")
+    public ExpiringCache.Stats jwtCache() {
+        return jwt.cacheStats();
+    }
+
+    @GetMapping("/user-cache")
+    public ExpiringCache.Stats userCache() {
+        return userCache.stats();
+    }
+
+    @GetMapping("/login-executor")
+    public LoginExecutor.Stats loginExecutor() {
+        return loginExecutor.stats();
+    }
+
+    /** 로그인 시도 허용/거절(사용자명·IP) 수 */
+    @GetMapping("/login-rate-limit")
+    public LoginRateLimiter.Stats loginRateLimit() {
+        return loginRateLimiter.stats();
+    }
+
+    /** 리프레시 토큰 수/회전/재사용 감지 */
+    @GetMapping("/refresh-tokens")
+    public RefreshTokenStore.Stats refreshTokens() {
+        return refreshTokens.stats();
+    }
+
+    /** 검증 가능한 서명 키(kid, 활성화 시각, 활성 여부), 키 값은 노출하지 않음 */
+    @GetMapping("/jwt-keys")
+    public List<JwtKeyRing.KeyInfo> jwtKeys() {
+        return keyRing.keys();
+    }
+
+    /** 회수 목록 크기, Bloom 필터 적중/오탐 */
+    @GetMapping("/revocations")
+    public RevocationList.Stats revocations() {
+        return revocations.stats();
+    }
+
+    /** 비동기 로그 버퍼 적재율/버림 수 (logback-spring.xml 의 ASYNC appender, 없으면 null) */
+    @GetMapping("/logging")
+    public BatchingAsyncAppender.Stats logging() {
+        BatchingAsyncAppender appender = BatchingAsyncAppender.find("ASYNC");
+        return appender != null ? appender.stats() : null;
+    }
+
+    /** 기동 단계별 소요 시간 상위 항목 (app.startup.report 미사용 시 null) */
+    @GetMapping("/startup")
+    public StartupReport.Summary startup() {
+        return StartupReport.last();
+    }
+}
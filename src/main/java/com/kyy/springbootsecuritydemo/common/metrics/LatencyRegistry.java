@@ -0,0 +1,68 @@
+package com.kyy.springbootsecuritydemo.common.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 핸들러 메서드 × 상태 클래스(2xx/4xx/5xx ...)별 지연시간 히스토그램
+ * - 기록 경로: Method 키 조회 1회 + 히스토그램 원자 증가 (락/할당 없음)
+ * - 히스토그램은 해당 상태 클래스가 처음 나올 때 생성
+ */
+@Component
+public class LatencyRegistry {
+
+    private final ConcurrentHashMap<Method, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(HandlerMethod handler, int status, long nanos) {
+        Method method = handler.getMethod();
+        Route route = routes.get(method);
+        if (route == null) route = routes.computeIfAbsent(method, m -> new Route(nameOf(handler)));
+        route.histogram(status).record(nanos);
+    }
+
+    public List<RouteLatency> snapshot() {
+        List<RouteLatency> out = new ArrayList<>();
+        for (Route route : routes.values()) {
+            for (int c = 1; c < Route.CLASSES; c++) {
+                LatencyHistogram h = route.byStatusClass.get(c);
+                if (h != null) out.add(new RouteLatency(route.name, c + "xx", h.snapshot()));
+            }
+        }
+        out.sort(Comparator.comparing(RouteLatency::handler).thenComparing(RouteLatency::statusClass));
+        return out;
+    }
+
+    private static String nameOf(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+    }
+
+    private static final class Route {
+        static final int CLASSES = 6;
+        final String name;
+        final AtomicReferenceArray<LatencyHistogram> byStatusClass = new AtomicReferenceArray<>(CLASSES);
+
+        Route(String name) {
+            this.name = name;
+        }
+
+        LatencyHistogram histogram(int status) {
+            int c = status / 100;
+            if (c < 1 || c >= CLASSES) c = 5;
+            LatencyHistogram h = byStatusClass.get(c);
+            if (h == null) {
+                byStatusClass.compareAndSet(c, null, new LatencyHistogram());
+                h = byStatusClass.get(c);
+            }
+            return h;
+        }
+    }
+
+    public record RouteLatency(String handler, String statusClass, LatencyHistogram.Snapshot latency) {}
+}
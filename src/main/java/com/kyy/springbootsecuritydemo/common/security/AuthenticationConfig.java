@@ -0,0 +1,49 @@
+package com.kyy.springbootsecuritydemo.common.security;
+
+import com.kyy.springbootsecuritydemo.common.security.crypto.AdaptiveBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Servlet/Reactive 공통: 비밀번호 인코더와 로그인 인증 관리자
+ * (둘 다 웹 스택과 무관하고, reactive 로그인도 LoginExecutor 위에서 같은 관리자를 사용)
+ */
+@Configuration
+public class AuthenticationConfig {
+
+    /**
+     * {bcrypt} 위임 인코더, cost 는 기동 시 목표 지연에 맞춰 결정(fixed-strength 지정 시 고정)
+     * - 접두사 없는 기존 해시도 bcrypt 로 검증하고, 로그인 성공 시 현재 cost 의 {bcrypt} 형식으로 재저장
+     */
+    @Bean PasswordEncoder passwordEncoder(
+            @Value("${app.security.password.fixed-strength:0}") int fixedStrength,
+            @Value("${app.security.password.target-hash-ms:50}") long targetHashMs,
+            @Value("${app.security.password.min-strength:10}") int minStrength,
+            @Value("${app.security.password.max-strength:14}") int maxStrength) {
+        int strength = fixedStrength > 0 ? fixedStrength
+                : AdaptiveBCryptPasswordEncoder.tuneStrength(targetHashMs, minStrength, maxStrength);
+        var bcrypt = new AdaptiveBCryptPasswordEncoder(strength);
+        var delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    @Bean AuthenticationManager authenticationManager(UserDetailsService uds, PasswordEncoder passwordEncoder,
+                                                      UserDetailsPasswordService passwordService) {
+        var provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(uds);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(passwordService); // cost 변경 시 로그인 성공과 함께 재해시
+        return new ProviderManager(provider);
+    }
+}
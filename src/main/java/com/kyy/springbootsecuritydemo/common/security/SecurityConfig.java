@@ -2,28 +2,33 @@ package com.kyy.springbootsecuritydemo.common.security;
 
 import com.kyy.springbootsecuritydemo.common.entrypoint.RestAccessDeniedHandler;
 import com.kyy.springbootsecuritydemo.common.entrypoint.RestAuthEntryPoint;
+import com.kyy.springbootsecuritydemo.common.security.controller.JwksController;
 import com.kyy.springbootsecuritydemo.common.security.filter.JwtAuthenticationFilter;
 import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+/** Servlet 스택 보안 설정 (reactive 프로필에서는 ReactiveSecurityConfig 사용) */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     private final UserDetailsService uds;
     private final JwtTokenProvider jwt;
+    private final UserAccountRepository repo;
+    private final JwtAuthenticationFilter.PrincipalMode principalMode;
+    private final RevocationList revocations;
 
     @Bean
     WebSecurityCustomizer webSecurityCustomizer() {
@@ -34,17 +39,11 @@ public class SecurityConfig {
         );
     }
 
-    public SecurityConfig(UserDetailsService uds, JwtTokenProvider jwt) {
-        this.uds = uds; this.jwt = jwt;
-    }
-
-    @Bean PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
-
-    @Bean AuthenticationManager authenticationManager() {
-        var provider = new DaoAuthenticationProvider();
-        provider.setUserDetailsService(uds);
-        provider.setPasswordEncoder(passwordEncoder());
-        return new ProviderManager(provider);
+    public SecurityConfig(UserDetailsService uds, JwtTokenProvider jwt, UserAccountRepository repo,
+                          @Value("${app.jwt.principal-mode:db}") JwtAuthenticationFilter.PrincipalMode principalMode,
+                          RevocationList revocations) {
+        this.uds = uds; this.jwt = jwt; this.repo = repo; this.principalMode = principalMode;
+        this.revocations = revocations;
     }
 
     @Bean RestAuthEntryPoint restAuthEntryPoint() { return new RestAuthEntryPoint(); }
@@ -99,8 +98,9 @@ public class SecurityConfig {
                 .headers(h -> h.frameOptions(f -> f.sameOrigin())) // H2 콘솔
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/h2-console/**", "/api/public/**", "/auth/login").permitAll()
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/h2-console/**", "/api/public/**", "/auth/login", "/auth/refresh",
+                                JwksController.PATH).permitAll()
+                        .requestMatchers("/api/admin/**", "/internal/**").hasRole("ADMIN")
                         .requestMatchers("/api/user/**").hasAnyRole("USER","ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -112,7 +112,7 @@ public class SecurityConfig {
                 .formLogin(f -> f.disable());
 
         // JWT 인증 필터 추가 (UsernamePasswordAuthenticationFilter 이전)
-        http.addFilterBefore(new JwtAuthenticationFilter(jwt, uds),
+        http.addFilterBefore(new JwtAuthenticationFilter(jwt, uds, repo, principalMode, revocations),
                 org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -0,0 +1,33 @@
+package com.kyy.springbootsecuritydemo.common.security;
+
+import com.kyy.springbootsecuritydemo.common.security.service.BoundedUserCache;
+import com.kyy.springbootsecuritydemo.common.security.service.JpaUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.CachingUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * 로그인(DaoAuthenticationProvider)과 JWT 필터가 공유하는 사용자 조회 캐시
+ * - 무효화: UserAccountCacheListener (엔티티 저장/수정/삭제 시)
+ */
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    BoundedUserCache userCache(
+            @Value("${app.security.user-cache.max-size:10000}") int maxSize,
+            @Value("${app.security.user-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        return new BoundedUserCache(maxSize, ttlSeconds * 1000);
+    }
+
+    @Bean @Primary
+    UserDetailsService cachingUserDetailsService(JpaUserDetailsService delegate, BoundedUserCache userCache) {
+        var cached = new CachingUserDetailsService(delegate);
+        cached.setUserCache(userCache);
+        return cached;
+    }
+}
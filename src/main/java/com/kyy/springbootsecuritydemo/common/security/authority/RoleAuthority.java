@@ -0,0 +1,55 @@
+package com.kyy.springbootsecuritydemo.common.security.authority;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * RoleRegistry 가 발급하는 정규(interned) 권한 인스턴스
+ * - index: 역할 비트 위치(0~63), 레지스트리가 가득 차서 비트를 받지 못했으면 -1
+ * - Spring Security 는 getAuthority() 문자열로 비교하므로 hasRole/hasAuthority 는 그대로 동작
+ */
+public final class RoleAuthority implements GrantedAuthority {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String authority;
+    private final transient int index;
+
+    RoleAuthority(String authority, int index) {
+        this.authority = authority;
+        this.index = index;
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    /** 비트 위치 (-1 이면 마스크로 표현 불가) */
+    public int index() {
+        return index;
+    }
+
+    public long bit() {
+        return index >= 0 ? 1L << index : 0L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof RoleAuthority r && authority.equals(r.authority));
+    }
+
+    @Override
+    public int hashCode() {
+        return authority.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return authority;
+    }
+
+    // 역직렬화 시에도 정규 인스턴스로 치환
+    private Object readResolve() {
+        return RoleRegistry.intern(authority);
+    }
+}
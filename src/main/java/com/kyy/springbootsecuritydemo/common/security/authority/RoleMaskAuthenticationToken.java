@@ -0,0 +1,69 @@
+package com.kyy.springbootsecuritydemo.common.security.authority;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 역할 비트 집합(roleMask)을 함께 들고 다니는 인증 토큰
+ * - getAuthorities() 는 RoleRegistry 가 캐시한 정규 인스턴스 리스트(+ 마스크로 표현 못 한 권한)
+ * - 권한 검사/병합은 roleMask 비트 연산으로 처리
+ */
+public class RoleMaskAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long roleMask;
+    private final List<GrantedAuthority> overflow; // 마스크로 표현되지 않는 권한 (대부분 비어 있음)
+
+    public RoleMaskAuthenticationToken(Object principal, Object credentials, long roleMask,
+                                       List<GrantedAuthority> overflow) {
+        super(principal, credentials, RoleRegistry.concat(RoleRegistry.authorities(roleMask), overflow));
+        this.roleMask = roleMask;
+        this.overflow = List.copyOf(overflow);
+    }
+
+    public RoleMaskAuthenticationToken(Object principal, Object credentials, long roleMask) {
+        this(principal, credentials, roleMask, List.of());
+    }
+
+    /** 임의 권한 컬렉션에서 생성 (정규 인스턴스면 비트만 모으고, 나머지는 overflow 로 보관) */
+    public static RoleMaskAuthenticationToken of(Object principal, Object credentials,
+                                                 Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0L;
+        List<GrantedAuthority> overflow = null;
+        for (GrantedAuthority a : authorities) {
+            long bit = RoleRegistry.maskOf(a);
+            if (bit != 0L) {
+                mask |= bit;
+            } else {
+                if (overflow == null) overflow = new ArrayList<>(2);
+                overflow.add(a);
+            }
+        }
+        return new RoleMaskAuthenticationToken(principal, credentials, mask, overflow != null ? overflow : List.of());
+    }
+
+    public long roleMask() {
+        return roleMask;
+    }
+
+    public List<GrantedAuthority> overflow() {
+        return overflow;
+    }
+
+    /** mask 의 역할 중 하나라도 가졌는지 (mask 가 0 이면 false), AuthorityFilter 의 경로 권한 검사용 */
+    public boolean hasAny(long mask) {
+        return (roleMask & mask) != 0L;
+    }
+
+    /** 인증 객체의 역할 비트 (토큰이 마스크를 들고 있으면 바로, 아니면 권한 목록에서 계산) */
+    public static long maskOf(Authentication auth) {
+        if (auth instanceof RoleMaskAuthenticationToken t) return t.roleMask;
+        return RoleRegistry.maskOf(auth.getAuthorities());
+    }
+}
@@ -0,0 +1,119 @@
+package com.kyy.springbootsecuritydemo.common.security.authority;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 역할 이름 → 정규 RoleAuthority 레지스트리 (프로세스 전역)
+ * - 등록 순서대로 0~63 비트를 부여 → 사용자 역할 집합을 long 하나(mask)로 표현
+ *   has-any/has-all/병합이 비트 연산 한 번, 객체 생성 없음
+ * - 64 개를 넘으면 index -1 인스턴스를 돌려주고 호출부는 문자열 비교로 처리(overflow)
+ * - intern 은 신뢰할 수 있는 입력(DB, 서명 검증된 토큰, 설정)에만 사용
+ *   외부 헤더 등은 find 로 조회만 할 것(임의 문자열로 레지스트리가 차지 않도록)
+ */
+public final class RoleRegistry {
+
+    public static final int CAPACITY = 64;
+    private static final int MAX_CACHED_LISTS = 1024;
+
+    private static final ConcurrentHashMap<String, RoleAuthority> BY_NAME = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<RoleAuthority> BY_INDEX = new AtomicReferenceArray<>(CAPACITY);
+    private static final ConcurrentHashMap<Long, List<GrantedAuthority>> LISTS = new ConcurrentHashMap<>();
+    private static int next; // BY_NAME.computeIfAbsent 안에서만 증가(synchronized)
+
+    private RoleRegistry() {}
+
+    /** 정규 인스턴스 반환(없으면 등록) */
+    public static RoleAuthority intern(String name) {
+        RoleAuthority r = BY_NAME.get(name);
+        if (r != null) return r;
+        if (next >= CAPACITY) return new RoleAuthority(name, -1); // 가득 참 → 비트 없는 임시 인스턴스
+        return BY_NAME.computeIfAbsent(name, RoleRegistry::register);
+    }
+
+    /** 등록된 정규 인스턴스(없으면 null) */
+    public static RoleAuthority find(String name) {
+        return BY_NAME.get(name);
+    }
+
+    private static synchronized RoleAuthority register(String name) {
+        if (next >= CAPACITY) return new RoleAuthority(name, -1);
+        RoleAuthority r = new RoleAuthority(name, next);
+        BY_INDEX.set(next, r);
+        next++;
+        return r;
+    }
+
+    /** 비트 하나의 역할 (없으면 null) */
+    public static RoleAuthority at(int index) {
+        return BY_INDEX.get(index);
+    }
+
+    public static long maskOf(GrantedAuthority a) {
+        if (a instanceof RoleAuthority r) return r.bit();
+        RoleAuthority r = BY_NAME.get(a.getAuthority());
+        return r != null ? r.bit() : 0L;
+    }
+
+    /** 마스크로 표현 가능한 권한만 모은 비트 집합 */
+    public static long maskOf(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0L;
+        for (GrantedAuthority a : authorities) mask |= maskOf(a);
+        return mask;
+    }
+
+    /** 마스크로 표현되지 않는 권한이 있는지 */
+    public static boolean hasOverflow(Collection<? extends GrantedAuthority> authorities) {
+        for (GrantedAuthority a : authorities) {
+            if (maskOf(a) == 0L) return true;
+        }
+        return false;
+    }
+
+    /** 마스크 → 비트 순서의 불변 권한 리스트 (자주 쓰는 조합은 캐시해서 공유) */
+    public static List<GrantedAuthority> authorities(long mask) {
+        if (mask == 0L) return List.of();
+        List<GrantedAuthority> cached = LISTS.get(mask);
+        if (cached != null) return cached;
+
+        List<GrantedAuthority> list = new ArrayList<>(Long.bitCount(mask));
+        for (long m = mask; m != 0; m &= m - 1) {
+            list.add(BY_INDEX.get(Long.numberOfTrailingZeros(m)));
+        }
+        List<GrantedAuthority> built = List.copyOf(list);
+        if (LISTS.size() < MAX_CACHED_LISTS) LISTS.putIfAbsent(mask, built);
+        return built;
+    }
+
+    /**
+     * 신뢰할 수 있는 역할 이름 목록 → 정규 권한 리스트
+     * 모두 비트를 받았으면 캐시된 리스트, 아니면 overflow 포함 새 리스트
+     */
+    public static List<GrantedAuthority> authoritiesOf(Collection<String> names) {
+        long mask = 0L;
+        List<GrantedAuthority> overflow = null;
+        for (String name : names) {
+            RoleAuthority r = intern(name);
+            if (r.index() >= 0) {
+                mask |= r.bit();
+            } else {
+                if (overflow == null) overflow = new ArrayList<>(2);
+                overflow.add(r);
+            }
+        }
+        return overflow == null ? authorities(mask) : concat(authorities(mask), overflow);
+    }
+
+    static List<GrantedAuthority> concat(List<GrantedAuthority> base, List<? extends GrantedAuthority> extra) {
+        if (extra.isEmpty()) return base;
+        List<GrantedAuthority> list = new ArrayList<>(base.size() + extra.size());
+        list.addAll(base);
+        list.addAll(extra);
+        return List.copyOf(list);
+    }
+}
@@ -1,41 +1,115 @@
 package com.kyy.springbootsecuritydemo.common.security.controller;
 
 import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginExecutor;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginRateLimiter;
+import com.kyy.springbootsecuritydemo.common.security.token.RefreshTokenStore;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AuthController {
 
+    private static final String BEARER = "Bearer ";
+
     private final AuthenticationManager authManager;
     private final JwtTokenProvider jwt;
+    private final LoginExecutor loginExecutor;
+    private final RefreshTokenStore refreshTokens;
+    private final RevocationList revocations;
+    private final LoginRateLimiter rateLimiter;
 
-    public AuthController(AuthenticationManager authManager, JwtTokenProvider jwt) {
+    public AuthController(AuthenticationManager authManager, JwtTokenProvider jwt, LoginExecutor loginExecutor,
+                          RefreshTokenStore refreshTokens, RevocationList revocations, LoginRateLimiter rateLimiter) {
         this.authManager = authManager;
         this.jwt = jwt;
+        this.loginExecutor = loginExecutor;
+        this.refreshTokens = refreshTokens;
+        this.revocations = revocations;
+        this.rateLimiter = rateLimiter;
     }
 
+    /**
+     * BCrypt 검증은 LoginExecutor 에서 수행하고 요청 스레드는 즉시 반환(MVC 비동기 처리)
+     * 인증 실패 예외는 CompletionException 이 벗겨진 채 GlobalExceptionHandler 로 전달됨
+     * 시도 한도(사용자명/IP)는 해시 작업을 큐에 넣기 전에 확인 → 초과 시 429, 사용자명 한도는 인증 실패 때만 차감
+     */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest req) {
-        Authentication auth = authManager.authenticate(
-                new UsernamePasswordAuthenticationToken(req.username(), req.password())
-        );
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest req, HttpServletRequest http) {
+        rateLimiter.acquire(req.username(), http.getRemoteAddr());
+        return loginExecutor
+                .submit(() -> authenticate(authManager, rateLimiter, req))
+                .thenApply(this::tokenResponse);
+    }
+
+    /** LoginExecutor 작업 본체 (리액티브 컨트롤러 공용): 인증 실패면 사용자명 한도 차감 후 그대로 던짐 */
+    public static Authentication authenticate(AuthenticationManager authManager, LoginRateLimiter rateLimiter,
+                                              LoginRequest req) {
+        try {
+            return authManager.authenticate(new UsernamePasswordAuthenticationToken(req.username(), req.password()));
+        } catch (AuthenticationException e) {
+            rateLimiter.recordFailure(req.username());
+            throw e;
+        }
+    }
+
+    /**
+     * 리프레시 토큰 회전 + 새 액세스 토큰 (비밀번호 해시/사용자 DB 조회 없음 → 요청 스레드에서 바로 처리)
+     * 재사용된 토큰이면 같은 로그인의 토큰 전체가 회수되고 401
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody RefreshRequest req) {
+        RefreshTokenStore.Rotation r = refreshTokens.rotate(req.refreshToken());
+        String token = jwt.generate(r.username(), r.roles());
+        return ResponseEntity.ok(TokenResponse.bearer(r.username(), r.roles(), token, jwt.expiresInSeconds(),
+                r.refreshToken()));
+    }
+
+    /**
+     * 현재 액세스 토큰을 exp 까지 회수하고, 본문에 리프레시 토큰이 있으면 그 로그인(family)도 회수
+     * 인증 필요 경로라 보통은 검증된 Bearer 토큰만 도착(검증 캐시 적중)
+     * Bearer 형식이 아니면 400, 토큰이 잘못됐으면 JwtException → 401
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshRequest req) {
+        revocations.revoke(jwt.parse(bearerToken(authorization)).getBody());
+        if (req != null && req.refreshToken() != null) refreshTokens.revoke(req.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<?> tokenResponse(Authentication auth) {
         UserDetails principal = (UserDetails) auth.getPrincipal();
-        String token = jwt.generate(principal);
-
-        return ResponseEntity.ok(Map.of(
-                "tokenType", "Bearer",
-                "accessToken", token,
-                "username", principal.getUsername(),
-                "roles", principal.getAuthorities().stream().map(a -> a.getAuthority()).toList()
-        ));
+        List<String> roles = TokenResponse.rolesOf(principal);
+        String token = jwt.generate(principal.getUsername(), roles);
+        String refresh = refreshTokens.issue(principal.getUsername(), roles);
+
+        return ResponseEntity.ok(TokenResponse.bearer(principal.getUsername(), roles, token, jwt.expiresInSeconds(),
+                refresh));
     }
 
     public record LoginRequest(String username, String password) {}
-}
\ No newline at end of file
+
+    public record RefreshRequest(String refreshToken) {}
+
+    /** "Bearer " 뒤 토큰 (Reactive 컨트롤러와 공용), 없거나 다른 스킴이면 IllegalArgumentException → 400 */
+    public static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER) || authorization.length() == BEARER.length()) {
+            throw new IllegalArgumentException("Authorization: Bearer <token> header is required");
+        }
+        return authorization.substring(BEARER.length());
+    }
+}
@@ -0,0 +1,71 @@
+package com.kyy.springbootsecuritydemo.common.security.controller;
+
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwksDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 공개 검증 키 (JWKS) - Servlet/WebFlux 공통
+ * - 미리 직렬화한 byte[] 그대로 응답(ApiResponse 로 감싸지 않음), If-None-Match 일치 시 304
+ *   (목록, W/ 약한 태그, * 처리: If-None-Match 는 약한 비교 - RFC 9110 13.1.2)
+ * - Servlet/WebFlux 양쪽에서 쓰므로 WebRequest/ServerWebExchange 대신 헤더를 직접 해석
+ * - max-age 는 키 파일 확인 주기 → 새 키가 활성화(주기 × 2)되기 전에 검증 측 캐시가 갱신됨
+ */
+@RestController
+public class JwksController {
+
+    public static final String PATH = "/.well-known/jwks.json";
+
+    private final JwksDocument jwks;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwksDocument jwks, @Value("${app.jwt.keys.reload-seconds:30}") long reloadSeconds) {
+        this.jwks = jwks;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(reloadSeconds)).cachePublic();
+    }
+
+    @GetMapping(value = PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        JwksDocument.Rendered doc = jwks.current();
+        if (notModified(ifNoneMatch, doc.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(doc.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(doc.etag()).cacheControl(cacheControl).body(doc.body());
+    }
+
+    /** If-None-Match 가 etag 와 (약한 비교로) 일치하는지, 형식이 깨진 지점부터는 불일치로 봄 */
+    static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) return false;
+        String opaque = opaqueTag(etag);
+        int i = 0, n = ifNoneMatch.length();
+        while (i < n) {
+            char c = ifNoneMatch.charAt(i);
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            }
+            if (c == '*') return true;
+            if (ifNoneMatch.startsWith("W/", i)) i += 2;
+            if (i >= n || ifNoneMatch.charAt(i) != '"') return false;
+            int end = ifNoneMatch.indexOf('"', i + 1);
+            if (end < 0) return false;
+            if (ifNoneMatch.regionMatches(i + 1, opaque, 0, opaque.length()) && end - i - 1 == opaque.length()) return true;
+            i = end + 1;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        String t = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return t.length() >= 2 && t.startsWith("\"") && t.endsWith("\"") ? t.substring(1, t.length() - 1) : t;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kyy.springbootsecuritydemo.common.security.controller;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/** 로그인/갱신 응답 본문 (Servlet/Reactive 공통), expiresIn 은 액세스 토큰 수명(초) */
+public record TokenResponse(String tokenType, String accessToken, long expiresIn, String refreshToken,
+                            String username, List<String> roles) {
+
+    public static List<String> rolesOf(UserDetails principal) {
+        return principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    public static TokenResponse bearer(String username, List<String> roles, String accessToken, long expiresIn,
+                                       String refreshToken) {
+        return new TokenResponse("Bearer", accessToken, expiresIn, refreshToken, username, roles);
+    }
+}
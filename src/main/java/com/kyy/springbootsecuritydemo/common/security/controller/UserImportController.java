@@ -0,0 +1,85 @@
+package com.kyy.springbootsecuritydemo.common.security.controller;
+
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportFormat;
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportResult;
+import com.kyy.springbootsecuritydemo.common.security.importer.ImportTooLargeException;
+import com.kyy.springbootsecuritydemo.common.security.importer.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 사용자 일괄 등록 (ADMIN, /api/admin/users/import)
+ * - POST: 요청 본문(CSV/NDJSON 원문)을 임시 파일로 스트리밍 복사한 뒤 백그라운드 실행 → 202 + 진행 상태
+ *   multipart 가 아니므로 전역 업로드 한도와 무관하고, app.import.users.max-upload-size 로만 제한(초과 시 413)
+ * - GET : 진행 중/마지막 작업 상태
+ */
+@RestController
+@RequestMapping("/api/admin/users/import")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class UserImportController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final UserImportService importService;
+    private final long maxUploadBytes;
+
+    public UserImportController(UserImportService importService,
+                                @Value("${app.import.users.max-upload-size:512MB}") DataSize maxUploadSize) {
+        this.importService = importService;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+    }
+
+    @PostMapping(consumes = {"text/csv", NDJSON, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportResult> start(HttpServletRequest request,
+                                              @RequestParam(value = "format", required = false) String format,
+                                              @RequestParam(value = "filename", required = false) String filename)
+            throws IOException {
+        if (request.getContentLengthLong() > maxUploadBytes) throw new ImportTooLargeException(maxUploadBytes);
+        ImportFormat f = formatOf(format, filename, request.getContentType());
+        Path tmp = Files.createTempFile("user-import-", "." + f.name().toLowerCase());
+        try {
+            spool(request.getInputStream(), tmp);
+            return ResponseEntity.accepted().body(importService.startAsync(tmp, f, true));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp); // 한도 초과/전송 중단/이미 실행 중
+            throw e;
+        }
+    }
+
+    @GetMapping
+    public ImportResult status() {
+        return importService.status();
+    }
+
+    /** 본문을 64KB 씩 옮기며 누적 크기 확인 (Content-Length 가 없거나 틀린 chunked 요청 대비) */
+    private void spool(InputStream in, Path tmp) throws IOException {
+        byte[] buf = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            for (int n; (n = in.read(buf)) != -1; ) {
+                total += n;
+                if (total > maxUploadBytes) throw new ImportTooLargeException(maxUploadBytes);
+                out.write(buf, 0, n);
+            }
+        }
+    }
+
+    private static ImportFormat formatOf(String format, String filename, String contentType) {
+        if ((format == null || format.isBlank()) && filename == null
+                && contentType != null && contentType.startsWith(NDJSON)) {
+            return ImportFormat.NDJSON;
+        }
+        return ImportFormat.from(format, filename);
+    }
+}
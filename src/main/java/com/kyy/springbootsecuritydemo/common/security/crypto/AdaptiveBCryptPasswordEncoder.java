@@ -0,0 +1,72 @@
+package com.kyy.springbootsecuritydemo.common.security.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 노드 성능에 맞춰 cost 를 정하는 BCrypt 인코더
+ * - tuneStrength: 기동 시 해시 1회 시간이 목표 지연(예: 50ms) 이내인 최대 cost 선택
+ * - upgradeEncoding: 저장된 해시의 cost 가 현재 cost 보다 낮을 때만 true
+ *   → DaoAuthenticationProvider 가 로그인 성공 시 UserDetailsPasswordService 로 재해시/저장
+ *   (느린 노드가 낮게 튜닝돼도 더 높은 cost 의 해시를 낮추지 않음)
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+    private static final int BENCH_ROUNDS = 3;
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost < strength;
+    }
+
+    /**
+     * min 에서 실측 후 cost +1 마다 2배로 외삽해 targetMillis 이내의 최대 cost 를 구함
+     * (min 자체가 목표를 넘으면 min 사용 — 보안 하한 우선)
+     */
+    public static int tuneStrength(long targetMillis, int min, int max) {
+        var probe = new BCryptPasswordEncoder(min);
+        probe.encode("warm-up");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < BENCH_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("benchmark-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetMillis * 1_000_000;
+        int strength = min;
+        long estimated = best;
+        while (strength < max && estimated * 2 <= targetNanos) {
+            strength++;
+            estimated *= 2;
+        }
+        log.info("BCrypt cost tuned: {} (cost {} = {}ms, target {}ms)",
+                strength, min, best / 1_000_000, targetMillis);
+        return strength;
+    }
+
+    /** "$2a$10$..." 형식에서 cost 추출, 형식이 아니면 -1 */
+    static int costOf(String encoded) {
+        if (encoded == null || encoded.length() < 7 || encoded.charAt(0) != '$' || encoded.charAt(3) != '$'
+                || encoded.charAt(6) != '$') {
+            return -1;
+        }
+        char d1 = encoded.charAt(4), d2 = encoded.charAt(5);
+        if (!Character.isDigit(d1) || !Character.isDigit(d2)) return -1;
+        return (d1 - '0') * 10 + (d2 - '0');
+    }
+}
@@ -0,0 +1,51 @@
+package com.kyy.springbootsecuritydemo.common.security.domain.entity;
+
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 역할 집합 ↔ 쉼표 구분 문자열 컬럼 (예: "ROLE_USER,ROLE_ADMIN")
+ * - user_roles 조인/보조 SELECT 와 PersistentSet 없이 users 한 행으로 로딩
+ * - 읽은 역할 이름은 RoleRegistry 의 정규 문자열을 재사용(사용자마다 같은 문자열을 중복 보관하지 않음)
+ */
+@Converter
+public class RolesConverter implements AttributeConverter<Set<String>, String> {
+
+    public static final int MAX_LENGTH = 512;
+    private static final char DELIMITER = ',';
+
+    @Override
+    public String convertToDatabaseColumn(Set<String> roles) {
+        return join(roles);
+    }
+
+    @Override
+    public Set<String> convertToEntityAttribute(String column) {
+        Set<String> roles = new LinkedHashSet<>(4);
+        if (column == null || column.isEmpty()) return roles;
+        int start = 0;
+        while (start <= column.length()) {
+            int end = column.indexOf(DELIMITER, start);
+            if (end < 0) end = column.length();
+            if (end > start) roles.add(RoleRegistry.intern(column.substring(start, end)).getAuthority());
+            start = end + 1;
+        }
+        return roles;
+    }
+
+    public static String join(Collection<String> roles) {
+        if (roles == null || roles.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(roles.size() * 12);
+        for (String r : roles) {
+            if (r.indexOf(DELIMITER) >= 0) throw new IllegalArgumentException("role must not contain ',': " + r);
+            if (!sb.isEmpty()) sb.append(DELIMITER);
+            sb.append(r);
+        }
+        return sb.toString();
+    }
+}
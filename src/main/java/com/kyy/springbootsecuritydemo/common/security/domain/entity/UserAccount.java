@@ -1,15 +1,31 @@
 package com.kyy.springbootsecuritydemo.common.security.domain.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserAccountCacheListener.class)
 @Data
 public class UserAccount {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+
+    /**
+     * IDENTITY 는 persist 즉시 INSERT 가 나가서 JDBC 배치가 꺼짐 → 시퀀스 + pooled-lo 로 50 개씩 미리 할당
+     * (pooled-lo: nextval 값 v 를 받으면 v ~ v+49 를 사용, UserImportService 도 같은 규칙으로 블록을 받음)
+     */
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 64)
@@ -18,14 +34,23 @@ public class UserAccount {
     @Column(nullable = false)
     private String password; // BCrypt 저장
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles",
-            joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "role", nullable = false, length = 32)
+    /** 쉼표 구분 단일 컬럼 (기존 EAGER @ElementCollection(user_roles) 대체) */
+    @Convert(converter = RolesConverter.class)
+    @Column(name = "roles", nullable = false, length = RolesConverter.MAX_LENGTH)
     private Set<String> roles;
 
     private boolean enabled = true;
 
+    /** 로드 시점 값과 재해시 여부 (저장 안 함, UserAccountCacheListener 가 변경 감지에 사용) */
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private String loadedPassword;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private boolean loadedEnabled;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private Set<String> loadedRoles;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @EqualsAndHashCode.Exclude @ToString.Exclude
+    private boolean rehashed;
+
     public UserAccount() {}
 
     public UserAccount(String username, String password, Set<String> roles) {
@@ -35,4 +60,27 @@ public class UserAccount {
         this.enabled = true;
     }
 
+    /** 해시 cost 업그레이드처럼 비밀번호 자체는 같은 재해시 (기존 세션 유지) */
+    public void rehashPassword(String encoded) {
+        this.password = encoded;
+        this.rehashed = true;
+    }
+
+    void rememberLoadedState() {
+        this.loadedPassword = password;
+        this.loadedEnabled = enabled;
+        this.loadedRoles = roles == null ? Set.of() : Set.copyOf(roles);
+        this.rehashed = false;
+    }
+
+    /**
+     * 로드 이후 비활성화됐거나 비밀번호(재해시 제외)/역할이 바뀌었는지 (새 엔티티는 false)
+     * 리프레시 토큰은 발급 시점 역할을 들고 있으므로 역할 변경도 회수 대상
+     */
+    boolean credentialsRevoked() {
+        if (loadedPassword == null) return false;
+        return (loadedEnabled && !enabled)
+                || (!rehashed && !loadedPassword.equals(password))
+                || !loadedRoles.equals(roles == null ? Set.of() : roles);
+    }
 }
@@ -0,0 +1,66 @@
+package com.kyy.springbootsecuritydemo.common.security.domain.entity;
+
+import com.kyy.springbootsecuritydemo.common.security.token.RefreshTokenStore;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * UserAccount 저장/수정(비활성화 포함)/삭제 시 사용자 캐시 무효화
+ * - Spring Boot 가 Hibernate BeanContainer 를 등록하므로 생성자 주입 가능
+ * - flush 시점에 한 번, 커밋 후 한 번 더 제거(커밋 전 다른 스레드가 옛 값을 다시 캐시하는 경우 대비)
+ * - 비활성화/비밀번호 변경(재해시 제외)/역할 변경/삭제면 커밋 후 그 사용자의 리프레시 토큰 family 를 모두 회수
+ * - JPQL 벌크 update 는 리스너를 거치지 않으므로 TTL 로만 반영됨
+ */
+public class UserAccountCacheListener {
+
+    private final UserCache userCache;
+    private final RefreshTokenStore refreshTokens;
+
+    public UserAccountCacheListener(UserCache userCache, RefreshTokenStore refreshTokens) {
+        this.userCache = userCache;
+        this.refreshTokens = refreshTokens;
+    }
+
+    @PostLoad
+    void loaded(UserAccount ua) {
+        ua.rememberLoadedState();
+    }
+
+    @PostPersist
+    void created(UserAccount ua) {
+        ua.rememberLoadedState();
+        evict(ua.getUsername(), false);
+    }
+
+    @PostUpdate
+    void updated(UserAccount ua) {
+        boolean revoke = ua.credentialsRevoked();
+        ua.rememberLoadedState(); // 같은 세션의 다음 flush 는 지금 값 기준으로 비교
+        evict(ua.getUsername(), revoke);
+    }
+
+    @PostRemove
+    void removed(UserAccount ua) {
+        evict(ua.getUsername(), true);
+    }
+
+    private void evict(String username, boolean revokeTokens) {
+        userCache.removeUserFromCache(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.removeUserFromCache(username);
+                    if (revokeTokens) refreshTokens.revokeUser(username); // 롤백되면 회수하지 않음
+                }
+            });
+        } else if (revokeTokens) {
+            refreshTokens.revokeUser(username);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.kyy.springbootsecuritydemo.common.security.domain.vo;
+
+import java.util.Set;
+
+/**
+ * 인증 경로용 인터페이스 프로젝션 (UserAccountRepository.findAuthByUsername)
+ * - 필요한 4 컬럼만 SELECT, 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음
+ */
+public interface UserAuthView {
+    String getUsername();
+    String getPassword();
+    boolean isEnabled();
+    Set<String> getRoles();
+}
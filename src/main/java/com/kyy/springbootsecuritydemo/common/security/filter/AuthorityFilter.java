@@ -1,34 +1,36 @@
 package com.kyy.springbootsecuritydemo.common.security.filter;
 
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleAuthority;
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleMaskAuthenticationToken;
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.*;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.stream.Collectors;
 /**
  * 요청 헤더의 역할 목록을 읽어 현재 Authentication의 권한을 보강/검증하는 필터
  * - 헤더명: X-Auth-Roles (예: "USER,ADMIN")
  * - allowList: 허용 가능한 권한 화이트리스트(미지정 시 모두 허용)
- * - requireOnPaths: 특정 경로 패턴에 대해 필수 권한을 요구(없으면 403)
+ * - requireOnPaths: 특정 경로 패턴에 대해 필수 권한을 요구(없으면 403), 생성 시 PathRuleMatcher 로 컴파일
+ * - 권한 검사/병합은 RoleRegistry 비트 마스크로 처리(레지스트리에 없는 역할만 문자열 비교)
  */
 public class AuthorityFilter extends OncePerRequestFilter {
 
+    private static final int PATH_CACHE_SIZE = 4096;
+
     private final String headerName;
     private final boolean autoPrefixRole;   // "ROLE_" 자동 프리픽스 여부
     private final Set<String> allowList;    // 허용 권한(ROLE_ 포함 형태)
-    private final Map<String, Set<String>> requireOnPaths; // pathPattern -> required roles
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final PathRuleMatcher<Requirement> pathRules; // pathPattern -> required roles
 
     public AuthorityFilter(
             String headerName,
@@ -39,7 +41,11 @@ public class AuthorityFilter extends OncePerRequestFilter {
         this.headerName = headerName != null ? headerName : "X-Auth-Roles";
         this.autoPrefixRole = autoPrefixRole;
         this.allowList = allowList != null ? allowList : Collections.emptySet();
-        this.requireOnPaths = requireOnPaths != null ? requireOnPaths : Collections.emptyMap();
+        this.allowList.forEach(RoleRegistry::intern); // 설정값 → 신뢰 입력, 미리 비트 부여
+
+        Map<String, Requirement> compiled = new LinkedHashMap<>();
+        if (requireOnPaths != null) requireOnPaths.forEach((p, roles) -> compiled.put(p, Requirement.of(roles)));
+        this.pathRules = new PathRuleMatcher<>(compiled, PATH_CACHE_SIZE);
     }
 
     @Override
@@ -57,45 +63,28 @@ public class AuthorityFilter extends OncePerRequestFilter {
 
         Authentication currentAuth = SecurityContextHolder.getContext().getAuthentication();
 
-        // 1) 헤더에서 신규 역할 파싱
+        // 1) 헤더에서 신규 역할 파싱 (2) 허용 리스트 제한 포함)
         Set<String> headerRoles = parseRoles(req.getHeader(headerName));
 
-        // 2) 허용 리스트 제한이 있으면 필터링
-        if (!allowList.isEmpty()) {
-            headerRoles = headerRoles.stream()
-                    .filter(allowList::contains)
-                    .collect(Collectors.toSet());
-        }
-
         // 3) 인증이 있다면 권한 보강
         if (currentAuth != null && currentAuth.isAuthenticated() && !headerRoles.isEmpty()) {
-            Collection<? extends GrantedAuthority> merged =
-                    mergeAuthorities(currentAuth.getAuthorities(), toAuthorities(headerRoles));
-
-            Authentication upgraded = new UsernamePasswordAuthenticationToken(
-                    currentAuth.getPrincipal(),
-                    currentAuth.getCredentials(),
-                    merged
-            );
+            RoleMaskAuthenticationToken upgraded = mergeInto(currentAuth, headerRoles);
             // details 유지
             if (currentAuth instanceof AbstractAuthenticationToken token) {
-                ((AbstractAuthenticationToken) upgraded).setDetails(token.getDetails());
+                upgraded.setDetails(token.getDetails());
             }
             SecurityContextHolder.getContext().setAuthentication(upgraded);
             currentAuth = upgraded;
         }
 
         // 4) 경로별 필수 권한 검사(인증이 있든 없든 적용)
-        if (!requireOnPaths.isEmpty()) {
-            for (Map.Entry<String, Set<String>> e : requireOnPaths.entrySet()) {
-                if (pathMatcher.match(e.getKey(), req.getRequestURI())) {
-                    Set<String> required = e.getValue();
-                    if (!hasAnyAuthority(currentAuth, required)) {
-                        res.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                        res.setContentType("application/json");
-                        res.getWriter().write("{\"message\":\"forbidden: missing required authority\"}");
-                        return;
-                    }
+        if (!pathRules.isEmpty()) {
+            for (Requirement required : pathRules.match(req.getRequestURI())) {
+                if (!hasAnyAuthority(currentAuth, required)) {
+                    res.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                    res.setContentType("application/json");
+                    res.getWriter().write("{\"message\":\"forbidden: missing required authority\"}");
+                    return;
                 }
             }
         }
@@ -103,13 +92,22 @@ public class AuthorityFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
-    private Set<String> parseRoles(String headerValue) {
+    // parseRoles/toAuthorities/mergeAuthorities: 벤치마크(src/jmh)에서 호출하도록 package-private
+    Set<String> parseRoles(String headerValue) {
         if (headerValue == null || headerValue.isBlank()) return Collections.emptySet();
-        return Arrays.stream(headerValue.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isBlank())
-                .map(this::normalizeRole)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> roles = new LinkedHashSet<>(4);
+        int start = 0, len = headerValue.length();
+        while (start <= len) {
+            int comma = headerValue.indexOf(',', start);
+            int end = comma < 0 ? len : comma;
+            String r = headerValue.substring(start, end).trim();
+            if (!r.isEmpty()) {
+                r = normalizeRole(r);
+                if (allowList.isEmpty() || allowList.contains(r)) roles.add(r);
+            }
+            start = end + 1;
+        }
+        return roles;
     }
 
     private String normalizeRole(String r) {
@@ -117,30 +115,105 @@ public class AuthorityFilter extends OncePerRequestFilter {
         return r.startsWith("ROLE_") ? r : ("ROLE_" + r);
     }
 
-    private boolean hasAnyAuthority(Authentication auth, Set<String> required) {
-        if (required == null || required.isEmpty()) return true; // 요구 없음
+    /** 현재 인증 + 헤더 역할 → 비트 OR 로 병합한 새 토큰 */
+    private RoleMaskAuthenticationToken mergeInto(Authentication auth, Set<String> headerRoles) {
+        long mask = RoleMaskAuthenticationToken.maskOf(auth);
+        List<GrantedAuthority> overflow = auth instanceof RoleMaskAuthenticationToken t
+                ? t.overflow() : overflowOf(auth.getAuthorities());
+        List<GrantedAuthority> extra = null;
+        for (String role : headerRoles) {
+            // 헤더는 외부 입력 → 등록하지 않고 조회만
+            RoleAuthority r = RoleRegistry.find(role);
+            if (r != null && r.index() >= 0) {
+                mask |= r.bit();
+            } else if (!containsName(overflow, role) && (extra == null || !containsName(extra, role))) {
+                if (extra == null) extra = new ArrayList<>(overflow);
+                extra.add(new SimpleGrantedAuthority(role));
+            }
+        }
+        return new RoleMaskAuthenticationToken(auth.getPrincipal(), auth.getCredentials(), mask,
+                extra != null ? extra : overflow);
+    }
+
+    private static List<GrantedAuthority> overflowOf(Collection<? extends GrantedAuthority> authorities) {
+        List<GrantedAuthority> overflow = null;
+        for (GrantedAuthority a : authorities) {
+            if (RoleRegistry.maskOf(a) == 0L) {
+                if (overflow == null) overflow = new ArrayList<>(2);
+                overflow.add(a);
+            }
+        }
+        return overflow != null ? overflow : List.of();
+    }
+
+    private static boolean containsName(Collection<? extends GrantedAuthority> authorities, String name) {
+        for (GrantedAuthority a : authorities) {
+            if (name.equals(a.getAuthority())) return true;
+        }
+        return false;
+    }
+
+    private boolean hasAnyAuthority(Authentication auth, Requirement required) {
+        if (required.isEmpty()) return true; // 요구 없음
         if (auth == null || !auth.isAuthenticated()) return false;
 
-        Set<String> have = auth.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.toSet());
-        for (String need : required) {
-            if (have.contains(need)) return true;
+        // JWT 필터가 만든 토큰은 그대로, 그 외 인증은 한 번 변환(비트 + overflow)
+        RoleMaskAuthenticationToken token = auth instanceof RoleMaskAuthenticationToken t
+                ? t : RoleMaskAuthenticationToken.of(auth.getPrincipal(), null, auth.getAuthorities());
+        if (token.hasAny(required.mask)) return true;
+        // 비트를 못 받은 필수 역할은 토큰의 overflow 에만 있을 수 있음 → 문자열 비교
+        for (String need : required.overflow) {
+            if (containsName(token.overflow(), need)) return true;
         }
         return false;
     }
 
-    private Collection<? extends GrantedAuthority> toAuthorities(Set<String> roles) {
-        return roles.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toSet());
+    Collection<? extends GrantedAuthority> toAuthorities(Set<String> roles) {
+        long mask = 0L;
+        List<GrantedAuthority> overflow = null;
+        for (String role : roles) {
+            RoleAuthority r = RoleRegistry.find(role);
+            if (r != null && r.index() >= 0) {
+                mask |= r.bit();
+            } else {
+                if (overflow == null) overflow = new ArrayList<>(2);
+                overflow.add(new SimpleGrantedAuthority(role));
+            }
+        }
+        return overflow == null ? RoleRegistry.authorities(mask) : mergeAuthorities(RoleRegistry.authorities(mask), overflow);
     }
 
-    private Collection<? extends GrantedAuthority> mergeAuthorities(
+    Collection<? extends GrantedAuthority> mergeAuthorities(
             Collection<? extends GrantedAuthority> a,
             Collection<? extends GrantedAuthority> b
     ) {
+        if (!RoleRegistry.hasOverflow(a) && !RoleRegistry.hasOverflow(b)) {
+            return RoleRegistry.authorities(RoleRegistry.maskOf(a) | RoleRegistry.maskOf(b));
+        }
         Set<String> names = new LinkedHashSet<>();
-        a.forEach(g -> names.add(g.getAuthority()));
-        b.forEach(g -> names.add(g.getAuthority()));
-        return names.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList());
+        List<GrantedAuthority> merged = new ArrayList<>(a.size() + b.size());
+        for (GrantedAuthority g : a) if (names.add(g.getAuthority())) merged.add(g);
+        for (GrantedAuthority g : b) if (names.add(g.getAuthority())) merged.add(g);
+        return merged;
+    }
+
+    /** 경로 규칙의 필수 역할: 레지스트리 비트 + 비트를 못 받은 이름 */
+    private record Requirement(long mask, List<String> overflow) {
+
+        static Requirement of(Set<String> roles) {
+            if (roles == null || roles.isEmpty()) return new Requirement(0L, List.of());
+            long mask = 0L;
+            List<String> overflow = new ArrayList<>();
+            for (String role : roles) {
+                RoleAuthority r = RoleRegistry.intern(role); // 설정값 → 신뢰 입력
+                if (r.index() >= 0) mask |= r.bit();
+                else overflow.add(role);
+            }
+            return new Requirement(mask, List.copyOf(overflow));
+        }
+
+        boolean isEmpty() {
+            return mask == 0L && overflow.isEmpty();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,22 @@
 package com.kyy.springbootsecuritydemo.common.security.filter;
 
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
 import com.kyy.springbootsecuritydemo.common.entrypoint.PublicEndpoints;
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleMaskAuthenticationToken;
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
 import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,8 +26,20 @@ import java.util.List;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 토큰 검증 후 principal 을 만드는 방식 (app.jwt.principal-mode)
+     * - DB: 매 요청 UserDetailsService 로 사용자 전체 조회 (기존 동작)
+     * - VALIDATED: roles 는 토큰 클레임 사용, DB 는 enabled 컬럼만 가볍게 확인
+     * - STATELESS: DB 조회 없이 검증된 클레임만으로 principal 구성
+     * roles 클레임이 없는 토큰은 모드와 무관하게 DB 조회로 처리
+     */
+    public enum PrincipalMode { DB, VALIDATED, STATELESS }
+
     private final JwtTokenProvider jwt;
     private final UserDetailsService uds;
+    private final UserAccountRepository repo;
+    private final PrincipalMode mode;
+    private final RevocationList revocations;
 
 //    @Override
 //    protected boolean shouldNotFilter(HttpServletRequest req) {
@@ -35,9 +56,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 //        return false;
 //    }
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwt, UserDetailsService uds) {
+    /** repo 는 VALIDATED 모드에서만 필요, mode 가 null 이면 DB, revocations 가 null 이면 회수 확인 안 함 */
+    public JwtAuthenticationFilter(JwtTokenProvider jwt, UserDetailsService uds,
+                                   UserAccountRepository repo, PrincipalMode mode, RevocationList revocations) {
+        if (mode == PrincipalMode.VALIDATED && repo == null) {
+            throw new IllegalArgumentException("VALIDATED mode requires UserAccountRepository");
+        }
         this.jwt = jwt;
         this.uds = uds;
+        this.repo = repo;
+        this.mode = mode != null ? mode : PrincipalMode.DB;
+        this.revocations = revocations;
     }
 
     @Override
@@ -60,15 +89,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            var jws = jwt.parse(header.substring(7));
-            var username = jws.getBody().getSubject();
-            var user = uds.loadUserByUsername(username);
-            var roles = (List<String>) jws.getBody().get("roles");
-            var auth = new UsernamePasswordAuthenticationToken(
+            Claims claims = jwt.parse(header.substring(7)).getBody();
+            // 회수 확인: 대부분 Bloom 필터 비트 4 개 확인으로 끝(할당 없음)
+            if (revocations != null && revocations.isRevoked(claims)) throw new BadCredentialsException("Revoked token");
+            var username = claims.getSubject();
+            var roles = JwtTokenProvider.rolesOf(claims);
+            // 서명 검증된 클레임 → 정규 권한 인스턴스(역할 조합별 캐시 리스트) 재사용
+            List<GrantedAuthority> authorities = roles == null ? null : RoleRegistry.authoritiesOf(roles);
+            var user = resolvePrincipal(username, authorities);
+            var auth = RoleMaskAuthenticationToken.of(
                     user, null,
-                    roles == null ? user.getAuthorities() :
-                            roles.stream().map(SimpleGrantedAuthority::new).toList());
+                    authorities == null ? user.getAuthorities() : authorities);
             SecurityContextHolder.getContext().setAuthentication(auth);
+            RequestContext ctx = RequestContext.current();
+            if (ctx != null) ctx.setPrincipal(username);
         } catch (Exception e) {
             SecurityContextHolder.clearContext();
             // 여기서 예외 '던지지' 마세요. 보호 구간일 경우 EntryPoint가 401을 반환합니다.
@@ -76,6 +110,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         chain.doFilter(req, res);
     }
 
+    private UserDetails resolvePrincipal(String username, List<GrantedAuthority> authorities) {
+        if (authorities == null || mode == PrincipalMode.DB) {
+            return uds.loadUserByUsername(username);
+        }
+        if (mode == PrincipalMode.VALIDATED && !repo.findEnabledByUsername(username).orElse(false)) {
+            throw new DisabledException("Disabled or unknown user: " + username);
+        }
+        // 자격증명은 토큰으로 이미 검증됨 → password 는 보관하지 않음
+        return User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build();
+    }
+
 //    @Override
 //    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
 //            throws ServletException, IOException {
@@ -0,0 +1,90 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * requireOnPaths(Ant 패턴 → 필수 권한 T)를 생성 시 한 번 컴파일한 매처
+ * - 패턴 앞쪽의 리터럴 세그먼트로 트라이를 만들고, 요청 URI 세그먼트를 따라 내려가며 만난 규칙만 AntPathMatcher 로 최종 확인
+ *   → 조회 비용이 전체 규칙 수가 아니라 URI 깊이 + 같은 접두사를 가진 규칙 수에 비례
+ * - 최종 판정은 기존과 같은 AntPathMatcher 라서 패턴 의미는 그대로
+ * - URI 별 결과는 크기 제한 캐시에 보관(가득 차면 통째로 비움)
+ */
+final class PathRuleMatcher<T> {
+
+    private static final String SEPARATOR = "/";
+
+    private final Node<T> root = new Node<>();
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final ConcurrentHashMap<String, List<T>> cache = new ConcurrentHashMap<>();
+    private final int cacheSize;
+    private final boolean empty;
+
+    PathRuleMatcher(Map<String, T> rules, int cacheSize) {
+        this.cacheSize = cacheSize;
+        this.empty = rules.isEmpty();
+        rules.forEach(this::insert);
+    }
+
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /** uri 에 매칭되는 모든 규칙의 값 목록(없으면 빈 리스트) */
+    List<T> match(String uri) {
+        if (empty) return List.of();
+        List<T> hit = cache.get(uri);
+        if (hit != null) return hit;
+
+        List<T> result = resolve(uri);
+        if (cache.size() >= cacheSize) cache.clear(); // 경로 변수 등으로 URI 가 무한히 늘어나도 메모리 상한 유지
+        cache.put(uri, result);
+        return result;
+    }
+
+    private List<T> resolve(String uri) {
+        List<T> out = new ArrayList<>(2);
+        Node<T> node = root;
+        collect(node, uri, out);
+        for (String segment : tokenize(uri)) {
+            node = node.children.get(segment);
+            if (node == null) break;
+            collect(node, uri, out);
+        }
+        return out.isEmpty() ? List.of() : List.copyOf(out);
+    }
+
+    private void collect(Node<T> node, String uri, List<T> out) {
+        for (Rule<T> r : node.rules) {
+            if (matcher.match(r.pattern, uri)) out.add(r.required);
+        }
+    }
+
+    private void insert(String pattern, T required) {
+        Node<T> node = root;
+        for (String segment : tokenize(pattern)) {
+            if (isWildcard(segment)) break; // 첫 와일드카드 세그먼트부터는 AntPathMatcher 가 판정
+            node = node.children.computeIfAbsent(segment, s -> new Node<>());
+        }
+        node.rules.add(new Rule<>(pattern, required));
+    }
+
+    private static String[] tokenize(String s) {
+        // AntPathMatcher 기본 설정과 같은 방식(trimTokens=false, 빈 토큰 무시)
+        return StringUtils.tokenizeToStringArray(s, SEPARATOR, false, true);
+    }
+
+    private static boolean isWildcard(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+    }
+
+    private static final class Node<T> {
+        final Map<String, Node<T>> children = new HashMap<>(4);
+        final List<Rule<T>> rules = new ArrayList<>(1);
+    }
+
+    private record Rule<T>(String pattern, T required) {}
+}
@@ -0,0 +1,20 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import java.util.Locale;
+
+/** 사용자 일괄 등록 파일 형식 */
+public enum ImportFormat {
+    /**
+     * username,password,roles[,enabled] (roles 는 '|' 구분, 첫 줄이 username 으로 시작하면 헤더로 보고 건너뜀)
+     * 쉼표/따옴표가 든 값은 RFC 4180 처럼 "..." 로 감싸고 안의 따옴표는 "" 로 씀
+     */
+    CSV,
+    /** 한 줄에 JSON 하나: {"username":..,"password":..,"roles":[..],"enabled":true} */
+    NDJSON;
+
+    public static ImportFormat from(String value, String filename) {
+        if (value != null && !value.isBlank()) return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json") ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,8 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+/** 이미 다른 일괄 등록이 실행 중 (409) */
+public class ImportInProgressException extends RuntimeException {
+    public ImportInProgressException() {
+        super("user import already running");
+    }
+}
@@ -0,0 +1,9 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+/**
+ * 일괄 등록 진행/결과
+ * - read: 읽은 레코드, imported: 저장, skipped: 이미 존재(또는 파일 내 중복), invalid: 형식 오류 줄
+ */
+public record ImportResult(String source, boolean running, long read, long imported, long skipped, long invalid,
+                           long elapsedMs, double perSecond, String error) {
+}
@@ -0,0 +1,8 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+/** 업로드 본문이 app.import.users.max-upload-size 를 넘음 (413) */
+public class ImportTooLargeException extends RuntimeException {
+    public ImportTooLargeException(long maxBytes) {
+        super("user import body exceeds " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,311 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kyy.springbootsecuritydemo.common.security.domain.entity.RolesConverter;
+import com.kyy.springbootsecuritydemo.common.security.domain.entity.UserAccount;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 사용자 등록 (CSV / NDJSON)
+ * - 파일을 batchSize 건씩 스트리밍으로 읽음 → 메모리에는 최대 2 chunk 만 유지
+ * - 비밀번호 해시는 전용 스레드 풀에서 병렬 처리, 해시된 chunk 의 저장과 다음 chunk 의 해시를 겹쳐 실행
+ * - 저장은 JdbcTemplate.batchUpdate (roles 는 users.roles 컬럼에 함께), chunk 마다 트랜잭션 1 개
+ *   id 는 users_seq 블록으로 미리 받아 직접 넣음(INSERT 후 id 재조회 없음)
+ * - 이미 있는 username 은 해시 전에 걸러 건너뜀(재실행 가능), {bcrypt}$2a$.. 형식의 해시만 그대로 저장
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final long PROGRESS_LOG_INTERVAL_MS = 5_000;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final TransactionTemplate tx;
+    private final PasswordEncoder encoder;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+    private final int hashThreads;
+    private final String nextIdSql; // 방언별 시퀀스 조회 SQL, 시퀀스가 없는 방언(MySQL)이면 null → 테이블 에뮬레이션
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "user-import");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile Progress progress;
+
+    public UserImportService(
+            JdbcTemplate jdbc,
+            PlatformTransactionManager txManager,
+            PasswordEncoder encoder,
+            ObjectMapper mapper,
+            EntityManagerFactory emf,
+            @Value("${app.import.users.batch-size:1000}") int batchSize,
+            @Value("${app.import.users.hash-threads:0}") int hashThreads
+    ) {
+        this.jdbc = jdbc;
+        this.named = new NamedParameterJdbcTemplate(jdbc);
+        this.tx = new TransactionTemplate(txManager);
+        this.encoder = encoder;
+        this.mapper = mapper;
+        this.batchSize = Math.max(1, batchSize);
+        // 기본: 코어 / 2 → 코어 수만큼 도는 LoginExecutor 와 겹쳐도 로그인 해시가 CPU 를 절반은 확보
+        this.hashThreads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        SequenceSupport seq = emf.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect().getSequenceSupport();
+        this.nextIdSql = seq.supportsSequences() ? seq.getSequenceNextValString(UserAccount.ID_SEQUENCE) : null;
+    }
+
+    /** 파일 경로에서 동기 실행 (기동 시 app.import.users.file) */
+    public ImportResult importFile(Path file, ImportFormat format) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return importStream(in, format, file.getFileName().toString());
+        }
+    }
+
+    /** 백그라운드 실행 후 즉시 현재 진행 상태 반환, deleteAfter 면 끝난 뒤 파일 삭제(업로드 임시 파일) */
+    public ImportResult startAsync(Path file, ImportFormat format, boolean deleteAfter) {
+        if (!running.compareAndSet(false, true)) throw new ImportInProgressException();
+        Progress p = new Progress(file.getFileName().toString());
+        progress = p;
+        try {
+            runner.execute(() -> runAsync(file, format, deleteAfter, p));
+        } catch (RejectedExecutionException e) {
+            // 종료 중 등으로 제출 실패 → 작업이 시작되지 않았으므로 여기서 상태 정리
+            p.error = "import executor unavailable";
+            p.finish();
+            running.set(false);
+            if (deleteAfter) deleteQuietly(file);
+            throw e;
+        }
+        return p.snapshot();
+    }
+
+    private void runAsync(Path file, ImportFormat format, boolean deleteAfter, Progress p) {
+        try (InputStream in = Files.newInputStream(file)) {
+            run(in, format, p);
+        } catch (Exception e) {
+            p.error = e.getMessage();
+            log.error("user import failed: {}", file, e);
+        } finally {
+            p.finish();
+            running.set(false);
+            if (deleteAfter) deleteQuietly(file);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try { Files.deleteIfExists(file); } catch (IOException ignore) { }
+    }
+
+    /** 마지막(또는 진행 중) 작업 상태, 실행한 적 없으면 null */
+    public ImportResult status() {
+        Progress p = progress;
+        return p != null ? p.snapshot() : null;
+    }
+
+    public ImportResult importStream(InputStream in, ImportFormat format, String source) throws IOException {
+        if (!running.compareAndSet(false, true)) throw new ImportInProgressException();
+        Progress p = new Progress(source);
+        progress = p;
+        try {
+            run(in, format, p);
+        } catch (IOException | RuntimeException e) {
+            p.error = e.getMessage();
+            throw e;
+        } finally {
+            p.finish();
+            running.set(false);
+        }
+        return p.snapshot();
+    }
+
+    private void run(InputStream in, ImportFormat format, Progress p) throws IOException {
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService hashPool = Executors.newFixedThreadPool(hashThreads, r -> {
+            Thread t = new Thread(r, "user-import-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            var reader = new UserRecordReader(
+                    new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16), format, mapper);
+            log.info("user import started: source={}, format={}, batchSize={}, hashThreads={}",
+                    p.source, format, batchSize, hashThreads);
+
+            CompletableFuture<List<UserRecord>> inFlight = null;
+            List<UserRecord> chunk;
+            while (!(chunk = reader.next(batchSize)).isEmpty()) {
+                p.read += chunk.size();
+                List<UserRecord> fresh = dropExisting(chunk, p);
+                CompletableFuture<List<UserRecord>> hashed = hashAsync(fresh, hashPool);
+                if (inFlight != null) insert(inFlight.join(), p); // 이전 chunk 저장 ↔ 현재 chunk 해시 병행
+                inFlight = hashed;
+                p.invalid = reader.invalid();
+                p.maybeLog();
+            }
+            if (inFlight != null) insert(inFlight.join(), p);
+            p.invalid = reader.invalid();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        } finally {
+            hashPool.shutdownNow();
+        }
+        ImportResult r = p.snapshot();
+        log.info("user import finished: source={}, read={}, imported={}, skipped={}, invalid={}, {}ms ({}/s)",
+                r.source(), r.read(), r.imported(), r.skipped(), r.invalid(), r.elapsedMs(),
+                String.format("%.1f", r.perSecond()));
+    }
+
+    /** 파일 내 중복 + DB 에 이미 있는 username 제거 (해시 비용 절약) */
+    private List<UserRecord> dropExisting(List<UserRecord> chunk, Progress p) {
+        Map<String, UserRecord> byName = new LinkedHashMap<>(chunk.size() * 2);
+        for (UserRecord u : chunk) byName.putIfAbsent(u.username(), u);
+        existing(byName.keySet()).forEach(byName::remove);
+        p.skipped += chunk.size() - byName.size();
+        return new ArrayList<>(byName.values());
+    }
+
+    private CompletableFuture<List<UserRecord>> hashAsync(List<UserRecord> users, Executor pool) {
+        if (users.isEmpty()) return CompletableFuture.completedFuture(users);
+        int slice = (users.size() + hashThreads - 1) / hashThreads;
+        List<CompletableFuture<List<UserRecord>>> parts = new ArrayList<>(hashThreads);
+        for (int from = 0; from < users.size(); from += slice) {
+            List<UserRecord> sub = users.subList(from, Math.min(users.size(), from + slice));
+            parts.add(CompletableFuture.supplyAsync(() -> {
+                List<UserRecord> out = new ArrayList<>(sub.size());
+                for (UserRecord u : sub) out.add(u.withPassword(encode(u)));
+                return out;
+            }, pool));
+        }
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).thenApply(v -> {
+            List<UserRecord> all = new ArrayList<>(users.size());
+            for (CompletableFuture<List<UserRecord>> part : parts) all.addAll(part.join());
+            return all;
+        });
+    }
+
+    private String encode(UserRecord u) {
+        // {bcrypt} + 형식이 맞는 BCrypt 해시만 그대로, 다른 {id} 접두사는 리더가 invalid 로 걸러냄
+        return u.preHashed() ? u.password() : encoder.encode(u.password());
+    }
+
+    private void insert(List<UserRecord> users, Progress p) {
+        if (users.isEmpty()) return;
+        Integer inserted = tx.execute(status -> {
+            // 다음 chunk 의 사전 필터 이후 앞 chunk 가 저장됐을 수 있으므로 트랜잭션 안에서 한 번 더 확인
+            Set<String> exists = existing(users.stream().map(UserRecord::username).toList());
+            List<UserRecord> rows = exists.isEmpty() ? users
+                    : users.stream().filter(u -> !exists.contains(u.username())).toList();
+            if (rows.isEmpty()) return 0;
+
+            long[] ids = allocateIds(rows.size());
+            List<Object[]> userRows = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                UserRecord u = rows.get(i);
+                userRows.add(new Object[]{ids[i], u.username(), u.password(), u.enabled(), RolesConverter.join(u.roles())});
+            }
+            jdbc.batchUpdate("insert into users (id, username, password, enabled, roles) values (?, ?, ?, ?, ?)", userRows);
+            return rows.size();
+        });
+        int n = inserted != null ? inserted : 0;
+        p.imported += n;
+        p.skipped += users.size() - n;
+    }
+
+    /**
+     * users_seq 에서 n 개의 id 를 블록 단위로 확보 (UserAccount 와 같은 pooled-lo 규칙: v → v ~ v+49)
+     * Hibernate 와 같은 시퀀스를 쓰므로 JPA 저장과 동시에 실행돼도 겹치지 않음
+     */
+    private long[] allocateIds(int n) {
+        long[] ids = new long[n];
+        int i = 0;
+        while (i < n) {
+            long lo = nextIdSql != null ? jdbc.queryForObject(nextIdSql, Long.class) : nextFromTable();
+            for (int k = 0; k < UserAccount.ID_ALLOCATION_SIZE && i < n; k++) ids[i++] = lo + k;
+        }
+        return ids;
+    }
+
+    /**
+     * 시퀀스 미지원 방언: Hibernate 가 만드는 users_seq(next_val) 테이블을 같은 방식으로 증가
+     * (행 잠금 후 allocationSize 만큼 올림, 호출부 트랜잭션 안에서 실행)
+     */
+    private long nextFromTable() {
+        Long lo = jdbc.queryForObject("select next_val from " + UserAccount.ID_SEQUENCE + " for update", Long.class);
+        jdbc.update("update " + UserAccount.ID_SEQUENCE + " set next_val = ? where next_val = ?",
+                lo + UserAccount.ID_ALLOCATION_SIZE, lo);
+        return lo;
+    }
+
+    private Set<String> existing(Collection<String> usernames) {
+        if (usernames.isEmpty()) return Set.of();
+        return new HashSet<>(named.queryForList("select username from users where username in (:names)",
+                Map.of("names", usernames), String.class));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /** 진행 상태: import 스레드만 쓰고, 조회는 volatile 읽기 기준의 근사값 */
+    private static final class Progress {
+        final String source;
+        final long startNanos = System.nanoTime();
+        volatile long read, imported, skipped, invalid;
+        volatile long endNanos;
+        volatile String error;
+        private long lastLog = System.currentTimeMillis();
+
+        Progress(String source) {
+            this.source = source;
+        }
+
+        void maybeLog() {
+            long now = System.currentTimeMillis();
+            if (now - lastLog < PROGRESS_LOG_INTERVAL_MS) return;
+            lastLog = now;
+            ImportResult r = snapshot();
+            log.info("user import progress: read={}, imported={}, skipped={}, invalid={} ({}/s)",
+                    r.read(), r.imported(), r.skipped(), r.invalid(), String.format("%.1f", r.perSecond()));
+        }
+
+        void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        ImportResult snapshot() {
+            long end = endNanos;
+            boolean done = end != 0;
+            long elapsedMs = ((done ? end : System.nanoTime()) - startNanos) / 1_000_000;
+            long r = read, i = imported;
+            double rate = elapsedMs == 0 ? 0.0 : i * 1000.0 / elapsedMs;
+            return new ImportResult(source, !done, r, i, skipped, invalid, elapsedMs, rate, error);
+        }
+    }
+}
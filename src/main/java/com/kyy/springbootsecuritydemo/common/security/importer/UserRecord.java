@@ -0,0 +1,27 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/** 파일에서 읽은 사용자 한 건 (password 는 해시 전 원문 또는 {bcrypt} 접두사가 붙은 BCrypt 해시) */
+record UserRecord(String username, String password, Set<String> roles, boolean enabled) {
+
+    /** DelegatingPasswordEncoder 형식의 BCrypt 해시 ({bcrypt}$2a$10$ + 53 자) */
+    private static final Pattern BCRYPT = Pattern.compile("\\{bcrypt}\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+    /** {noop}, {sha256} 처럼 인코더 id 로 보이는 접두사 */
+    private static final Pattern ENCODER_ID = Pattern.compile("\\{[A-Za-z0-9_-]+}.*", Pattern.DOTALL);
+
+    UserRecord withPassword(String encoded) {
+        return new UserRecord(username, encoded, roles, enabled);
+    }
+
+    /** 해시 없이 그대로 저장해도 되는 값 */
+    boolean preHashed() {
+        return BCRYPT.matcher(password).matches();
+    }
+
+    /** 인코더 접두사가 붙었지만 받아들이지 않는 값 (원문으로 해시하면 의도와 다른 비밀번호가 됨) */
+    boolean unsupportedEncoding() {
+        return !preHashed() && ENCODER_ID.matcher(password).matches();
+    }
+}
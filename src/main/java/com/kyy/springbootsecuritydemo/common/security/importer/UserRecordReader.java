@@ -0,0 +1,140 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kyy.springbootsecuritydemo.common.security.domain.entity.RolesConverter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * CSV/NDJSON 을 한 줄씩 읽어 chunk 단위로 돌려주는 리더 (파일 전체를 메모리에 올리지 않음)
+ * - CSV 는 RFC 4180 따옴표 필드("a,b", "" 이스케이프) 지원, 단 필드 안 줄바꿈은 미지원, 필드는 최대 4 개
+ * - NDJSON 은 줄당 JSON 하나(뒤에 다른 값이 붙으면 invalid)
+ * - {bcrypt} 외의 인코더 접두사({noop}, {sha256} ..)가 붙은 비밀번호는 invalid
+ * - 형식이 잘못된 줄은 건너뛰고 invalid 로 집계(처음 몇 건만 경고 로그)
+ * - roles 가 비어 있으면 ROLE_USER, ROLE_ 접두사가 없으면 붙임
+ */
+@Slf4j
+class UserRecordReader {
+
+    static final int MAX_USERNAME = 64;
+    private static final int MAX_WARN = 20;
+    private static final int MAX_CSV_FIELDS = 4;
+    private static final Set<String> DEFAULT_ROLES = Set.of("ROLE_USER");
+
+    private final BufferedReader in;
+    private final ImportFormat format;
+    private final ObjectReader json;
+    private long lineNo;
+    private long invalid;
+
+    UserRecordReader(BufferedReader in, ImportFormat format, ObjectMapper mapper) {
+        this.in = in;
+        this.format = format;
+        this.json = mapper.reader().with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    /** 최대 n 건 (파일 끝이면 빈 리스트) */
+    List<UserRecord> next(int n) throws IOException {
+        List<UserRecord> out = new ArrayList<>(n);
+        String line;
+        while (out.size() < n && (line = in.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) continue;
+            if (lineNo == 1 && format == ImportFormat.CSV && line.startsWith("username")) continue; // 헤더
+            try {
+                out.add(format == ImportFormat.CSV ? parseCsv(line) : parseJson(line));
+            } catch (RuntimeException | IOException e) {
+                // 파서 메시지에는 줄 내용(비밀번호)이 섞일 수 있으므로 직접 만든 메시지만 기록
+                String reason = e instanceof IllegalArgumentException ? e.getMessage() : "malformed record";
+                if (++invalid <= MAX_WARN) log.warn("user import: skip line {} ({})", lineNo, reason);
+            }
+        }
+        return out;
+    }
+
+    long invalid() {
+        return invalid;
+    }
+
+    private UserRecord parseCsv(String line) {
+        List<String> f = splitCsv(line);
+        if (f.size() < 2) throw new IllegalArgumentException("expected username,password[,roles[,enabled]]");
+        Set<String> roles = f.size() > 2 ? roles(Arrays.asList(f.get(2).split("\\|"))) : DEFAULT_ROLES;
+        boolean enabled = f.size() <= 3 || f.get(3).isBlank() || Boolean.parseBoolean(f.get(3).trim());
+        return validate(new UserRecord(f.get(0).trim(), f.get(1), roles, enabled));
+    }
+
+    /** RFC 4180 한 줄 분리: 따옴표 필드 안의 쉼표는 값, "" 는 따옴표 하나 */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(MAX_CSV_FIELDS);
+        StringBuilder sb = new StringBuilder();
+        int i = 0, n = line.length();
+        while (true) {
+            sb.setLength(0);
+            if (i < n && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= n) throw new IllegalArgumentException("unterminated quoted field");
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        sb.append(c);
+                    } else if (i < n && line.charAt(i) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < n && line.charAt(i) != ',') throw new IllegalArgumentException("text after quoted field");
+            } else {
+                while (i < n && line.charAt(i) != ',') {
+                    char c = line.charAt(i++);
+                    if (c == '"') throw new IllegalArgumentException("quote in unquoted field");
+                    sb.append(c);
+                }
+            }
+            fields.add(sb.toString());
+            if (fields.size() > MAX_CSV_FIELDS) throw new IllegalArgumentException("too many fields");
+            if (i >= n) return fields;
+            i++; // ','
+        }
+    }
+
+    private UserRecord parseJson(String line) throws IOException {
+        JsonNode n = json.readTree(line);
+        JsonNode r = n.path("roles");
+        List<String> names = new ArrayList<>();
+        if (r.isArray()) r.forEach(x -> names.add(x.asText()));
+        else if (r.isTextual()) names.addAll(Arrays.asList(r.asText().split("\\|")));
+        return validate(new UserRecord(n.path("username").asText("").trim(), n.path("password").asText(""),
+                roles(names), n.path("enabled").asBoolean(true)));
+    }
+
+    private static Set<String> roles(Collection<String> names) {
+        Set<String> roles = new LinkedHashSet<>(4);
+        for (String name : names) {
+            String r = name.trim();
+            if (r.isEmpty()) continue;
+            roles.add(r.startsWith("ROLE_") ? r : "ROLE_" + r);
+        }
+        return roles.isEmpty() ? DEFAULT_ROLES : roles;
+    }
+
+    private static UserRecord validate(UserRecord u) {
+        if (u.username().isEmpty() || u.username().length() > MAX_USERNAME) {
+            throw new IllegalArgumentException("invalid username");
+        }
+        if (u.password().isEmpty()) throw new IllegalArgumentException("empty password");
+        if (u.unsupportedEncoding()) throw new IllegalArgumentException("unsupported password encoding");
+        if (RolesConverter.join(u.roles()).length() > RolesConverter.MAX_LENGTH) {
+            throw new IllegalArgumentException("roles too long");
+        }
+        return u;
+    }
+}
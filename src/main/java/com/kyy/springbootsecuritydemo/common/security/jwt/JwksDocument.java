@@ -0,0 +1,116 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.*;
+
+/**
+ * JWKS 문서 (RFC 7517) - 비대칭 키의 공개키만, HMAC 키는 절대 포함하지 않음
+ * - 키 구성(JwtKeyRing.version)이 바뀔 때만 다시 직렬화, 그 외에는 같은 byte[] 와 ETag 재사용
+ */
+@Component
+public class JwksDocument {
+
+    private final JwtKeyRing keys;
+    private final ObjectMapper mapper;
+    private volatile Rendered rendered = new Rendered(-1, new byte[0], "");
+
+    public JwksDocument(JwtKeyRing keys, ObjectMapper mapper) {
+        this.keys = keys;
+        this.mapper = mapper;
+    }
+
+    public Rendered current() {
+        Rendered r = rendered;
+        long version = keys.version();
+        if (r.version == version) return r;
+        r = render(version);
+        rendered = r;
+        return r;
+    }
+
+    private Rendered render(long version) {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtKeyRing.SigningKey k : keys.publicKeys()) jwks.add(toJwk(k));
+        try {
+            byte[] body = mapper.writeValueAsBytes(Map.of("keys", jwks));
+            return new Rendered(version, body, etagOf(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(JwtKeyRing.SigningKey k) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", k.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", k.algorithm().getValue());
+        if (k.verifyKey() instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", b64(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", b64(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (k.verifyKey() instanceof ECPublicKey ec) {
+            int size = coordinateSize(k.algorithm());
+            jwk.put("kty", "EC");
+            jwk.put("crv", curveOf(k.algorithm()));
+            jwk.put("x", b64(unsigned(ec.getW().getAffineX(), size)));
+            jwk.put("y", b64(unsigned(ec.getW().getAffineY(), size)));
+        } else {
+            throw new IllegalStateException("Not a public key: " + k.kid());
+        }
+        return jwk;
+    }
+
+    private static String curveOf(SignatureAlgorithm alg) {
+        return switch (alg) {
+            case ES256 -> "P-256";
+            case ES384 -> "P-384";
+            case ES512 -> "P-521";
+            default -> throw new IllegalArgumentException(alg.getValue());
+        };
+    }
+
+    private static int coordinateSize(SignatureAlgorithm alg) {
+        return switch (alg) {
+            case ES256 -> 32;
+            case ES384 -> 48;
+            case ES512 -> 66;
+            default -> throw new IllegalArgumentException(alg.getValue());
+        };
+    }
+
+    /** 부호 없는 big-endian, size > 0 이면 앞을 0 으로 채운 고정 길이 (EC 좌표) */
+    private static byte[] unsigned(BigInteger v, int size) {
+        byte[] b = v.toByteArray();
+        int start = b.length > 1 && b[0] == 0 ? 1 : 0;
+        int len = b.length - start;
+        int outLen = Math.max(size, len);
+        byte[] out = new byte[outLen];
+        System.arraycopy(b, start, out, outLen - len, len);
+        return out;
+    }
+
+    private static String b64(byte[] b) {
+        return Encoders.BASE64URL.encode(b);
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(d, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rendered(long version, byte[] body, String etag) {}
+}
@@ -0,0 +1,350 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.*;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kid 로 찾는 서명 키 묶음 (app.jwt.algorithm: HS256 기본, ES256/RS256 등 비대칭 지원)
+ * - 서명: 설정 알고리즘의 개인키(HMAC 은 비밀키)를 가진 키 중 활성 키(activatesAt 이 지난 가장 최근) + 헤더 kid
+ * - 비대칭: 공개키는 JWKS(/.well-known/jwks.json)로 공개 → 다른 서비스가 비밀 공유 없이 로컬 검증
+ *   app.jwt.keys.file 이 필수, 없으면 기동 실패
+ *   (app.jwt.keys.allow-ephemeral=true 일 때만 기동 시 메모리 전용 키 쌍 생성 → 재시작/노드마다 키가 달라짐)
+ * - 검증: SigningKeyResolver 가 kid → 키 맵 조회 1 회, kid 없는 기존 토큰은 app.jwt.secret 키("default")
+ * - 교체된 키는 다음 키 활성화 후 overlap(액세스 토큰 수명 + 여유) 동안만 검증용으로 유지 → 한꺼번에 재로그인하지 않음
+ * - app.jwt.keys.file: 키 파일을 주기적으로 확인해 재시작 없이 반영, 자동 교체 시 새 키도 이 파일에 기록
+ *   새 키는 publish-delay 뒤에 활성화 → 같은 파일을 보는 다른 노드가 먼저 검증용으로 읽어 둘 시간
+ * - 키 상태는 불변 스냅샷을 volatile 로 통째 교체(조회 경로에 락 없음)
+ */
+@Slf4j
+@Component
+@Lazy(false) // 파일 재적재/교체 스케줄 등록
+public class JwtKeyRing {
+
+    public static final String DEFAULT_KID = "default";
+    private static final DateTimeFormatter KID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss").withZone(ZoneOffset.UTC);
+
+    private final SignatureAlgorithm algorithm;
+    private final SigningKey configured;  // app.jwt.secret (HMAC, kid 없는 기존 토큰 검증)
+    private final Path file;              // null 이면 메모리 전용
+    private final long overlapMillis;
+    private final long rotationMillis;    // 0 이면 자동 교체 안 함
+    private final long publishDelayMillis;
+    private final ObjectMapper mapper;
+    private final SecureRandom random = new SecureRandom();
+
+    private final List<SigningKey> generated = new ArrayList<>(); // 파일 없이 자동 교체한 키 (refresh 스레드에서만)
+    private final List<Runnable> removalListeners = new CopyOnWriteArrayList<>();
+    private volatile List<SigningKey> fileKeys = List.of();
+    private volatile long fileModified = Long.MIN_VALUE;
+    private volatile State state;
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${app.jwt.secret}") String base64Secret,
+            @Value("${app.jwt.expiration-minutes}") long expirationMinutes,
+            @Value("${app.jwt.algorithm:HS256}") SignatureAlgorithm algorithm,
+            @Value("${app.jwt.keys.file:}") String file,
+            @Value("${app.jwt.keys.rotation-hours:0}") long rotationHours,
+            @Value("${app.jwt.keys.overlap-minutes:0}") long overlapMinutes,
+            @Value("${app.jwt.keys.reload-seconds:30}") long reloadSeconds,
+            @Value("${app.jwt.keys.allow-ephemeral:false}") boolean allowEphemeral,
+            ObjectMapper mapper
+    ) {
+        if (!(algorithm.isHmac() || algorithm.isRsa() || algorithm.isEllipticCurve())) {
+            throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        SecretKey secret = hmacKey(base64Secret);
+        this.configured = new SigningKey(DEFAULT_KID, SignatureAlgorithm.HS256, secret, secret, 0L);
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+        if (!algorithm.isHmac() && this.file == null && !allowEphemeral) {
+            // 메모리 전용 키는 재시작마다 바뀌고 노드끼리 달라서, 다른 노드가 발급한 토큰을 검증하지 못함
+            throw new IllegalStateException("app.jwt.algorithm=" + algorithm.getValue()
+                    + " requires app.jwt.keys.file (or app.jwt.keys.allow-ephemeral=true for a single throwaway node)");
+        }
+        // overlap 기본값: 액세스 토큰 수명 + 5분(시계 오차) → 교체 직전에 발급된 토큰도 만료까지 검증 가능
+        this.overlapMillis = TimeUnit.MINUTES.toMillis(overlapMinutes > 0 ? overlapMinutes : expirationMinutes + 5);
+        this.rotationMillis = TimeUnit.HOURS.toMillis(rotationHours);
+        this.publishDelayMillis = TimeUnit.SECONDS.toMillis(reloadSeconds) * 2;
+        this.mapper = mapper;
+        reloadFile();
+        this.state = build(System.currentTimeMillis());
+        if (state.active.algorithm != algorithm) {
+            // 설정 알고리즘의 서명 키가 없음(비대칭 전환 첫 기동 등) → 즉시 활성 키 생성
+            // activatesAt = 지금: 0 으로 두면 정렬상 default 앞에 와서 HMAC 키가 곧바로 폐기됨(기존 HS256 토큰 무효화)
+            long now = System.currentTimeMillis();
+            addKey(newKey(now), now);
+            this.state = build(System.currentTimeMillis());
+        }
+    }
+
+    /** 단일 HMAC 키 (벤치마크/테스트용, 교체·파일 없음) */
+    public static JwtKeyRing single(String base64Secret, long expirationMinutes) {
+        return generated(base64Secret, SignatureAlgorithm.HS256, expirationMinutes);
+    }
+
+    /** 지정 알고리즘 (비대칭이면 메모리 전용 키 쌍 생성 = allow-ephemeral), 벤치마크/테스트용 */
+    public static JwtKeyRing generated(String base64Secret, SignatureAlgorithm algorithm, long expirationMinutes) {
+        return new JwtKeyRing(base64Secret, expirationMinutes, algorithm, "", 0, 0, 30, true, new ObjectMapper());
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /** 서명용 활성 키 */
+    public SigningKey active() {
+        return state.active;
+    }
+
+    /** 검증용 리졸버: 파서에 한 번 넣어 두고 재사용 */
+    public SigningKeyResolverAdapter resolver() {
+        return new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                String kid = header.getKeyId();
+                SigningKey k = state.byKid.get(kid != null ? kid : DEFAULT_KID);
+                if (k == null) throw new JwtException("Unknown signing key: " + kid);
+                // 헤더 alg 와 키 종류가 다르면(예: 공개키로 HS256) jjwt 가 거절
+                return k.verifyKey;
+            }
+        };
+    }
+
+    /** 키가 검증 목록에서 빠질 때 호출 (검증 결과 캐시 비우기 등) */
+    public void onKeyRemoved(Runnable listener) {
+        removalListeners.add(listener);
+    }
+
+    public List<KeyInfo> keys() {
+        State s = state;
+        return s.ordered.stream().map(k -> new KeyInfo(k.kid, k.algorithm.getValue(), k.activatesAt, k == s.active))
+                .toList();
+    }
+
+    /** 공개 가능한(비대칭) 검증 키 목록 + 버전(키 구성이 바뀔 때마다 증가) */
+    public List<SigningKey> publicKeys() {
+        return state.ordered.stream().filter(k -> !k.algorithm.isHmac()).toList();
+    }
+
+    public long version() {
+        return state.version;
+    }
+
+    /** 파일 변경 확인 → 자동 교체 → 활성/폐기 키 재계산 */
+    @Scheduled(fixedDelayString = "${app.jwt.keys.reload-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    synchronized void refresh(long now) {
+        reloadFile();
+        rotateIfDue(now);
+
+        State prev = state;
+        State next = build(now);
+        state = next;
+        if (next.active != prev.active) log.info("JWT signing key activated: kid={}", next.active.kid);
+        boolean removed = false;
+        for (String kid : prev.byKid.keySet()) {
+            if (!next.byKid.containsKey(kid)) {
+                log.info("JWT signing key retired: kid={}", kid);
+                removed = true;
+            }
+        }
+        // 폐기된 키로 검증해 캐시해 둔 결과가 남지 않도록
+        if (removed) removalListeners.forEach(Runnable::run);
+    }
+
+    private State build(long now) {
+        List<SigningKey> all = new ArrayList<>();
+        all.add(configured);
+        all.addAll(fileKeys);
+        all.addAll(generated);
+        all.sort(Comparator.comparingLong(SigningKey::activatesAt));
+
+        int activeIdx = 0;
+        for (int i = 0; i < all.size(); i++) {
+            SigningKey k = all.get(i);
+            if (k.activatesAt <= now && k.canSign() && k.algorithm == algorithm) activeIdx = i;
+        }
+        Map<String, SigningKey> byKid = new HashMap<>();
+        List<SigningKey> kept = new ArrayList<>();
+        for (int i = 0; i < all.size(); i++) {
+            SigningKey k = all.get(i);
+            // 다음 키가 활성화된 지 overlap 이 지난 옛 키는 제외(그 키로 서명된 토큰은 모두 만료)
+            if (i < activeIdx && all.get(i + 1).activatesAt + overlapMillis <= now) continue;
+            byKid.put(k.kid, k); // kid 중복 시 나중(최신) 키
+            kept.add(k);
+        }
+        State prev = state;
+        List<SigningKey> ordered = List.copyOf(kept);
+        long version = prev == null ? 1 : (prev.ordered.equals(ordered) ? prev.version : prev.version + 1);
+        return new State(all.get(activeIdx), Map.copyOf(byKid), ordered, version);
+    }
+
+    private void rotateIfDue(long now) {
+        if (rotationMillis <= 0) return;
+        SigningKey newest = state.ordered.get(state.ordered.size() - 1);
+        if (newest.activatesAt + rotationMillis > now) return; // 아직이거나 대기 중인 새 키가 있음
+
+        SigningKey key = newKey(now + publishDelayMillis);
+        if (addKey(key, now)) {
+            log.info("JWT signing key scheduled: kid={} activates in {}s", key.kid, publishDelayMillis / 1000);
+        }
+    }
+
+    private SigningKey newKey(long activatesAt) {
+        String kid = KID_FORMAT.format(Instant.ofEpochMilli(Math.max(activatesAt, System.currentTimeMillis())));
+        if (algorithm.isHmac()) {
+            byte[] secret = new byte[algorithm.getMinKeyLength() / 8];
+            random.nextBytes(secret);
+            SecretKey k = Keys.hmacShaKeyFor(secret);
+            return new SigningKey(kid, algorithm, k, k, activatesAt);
+        }
+        KeyPair pair = Keys.keyPairFor(algorithm);
+        return new SigningKey(kid, algorithm, pair.getPrivate(), pair.getPublic(), activatesAt);
+    }
+
+    /** 파일이 있으면 파일에 기록(다른 노드와 공유), 없으면 메모리에만 */
+    private boolean addKey(SigningKey key, long now) {
+        if (file == null) {
+            generated.add(key);
+            return true;
+        }
+        try {
+            writeFile(key, now);
+            return true;
+        } catch (IOException e) {
+            log.warn("JWT key not persisted, cannot write {}: {}", file, e.toString());
+            if (state == null || state.active.algorithm != algorithm) generated.add(key); // 서명 키가 없으면 메모리로라도
+            return false;
+        }
+    }
+
+    // ---------- 키 파일 ----------
+
+    private void reloadFile() {
+        if (file == null || !Files.isRegularFile(file)) return;
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified == fileModified) return;
+            KeyFile kf = mapper.readValue(file.toFile(), KeyFile.class);
+            List<SigningKey> keys = new ArrayList<>();
+            for (KeyFile.Entry e : kf.keys() != null ? kf.keys() : List.<KeyFile.Entry>of()) {
+                keys.add(fromEntry(e));
+            }
+            fileKeys = List.copyOf(keys);
+            fileModified = modified;
+            log.info("JWT key file loaded: {} keys from {}", keys.size(), file);
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // 잘못된 파일로 모든 토큰이 무효화되지 않도록 이전 키 유지
+            log.warn("JWT key file ignored ({}): {}", file, e.toString());
+        }
+    }
+
+    private void writeFile(SigningKey key, long now) throws IOException {
+        List<KeyFile.Entry> entries = new ArrayList<>();
+        if (Files.isRegularFile(file)) {
+            KeyFile current = mapper.readValue(file.toFile(), KeyFile.class);
+            if (current.keys() != null) {
+                // 이미 폐기 시점이 지난 키는 파일에서도 정리
+                Set<String> live = state != null ? state.byKid.keySet() : Set.of();
+                for (KeyFile.Entry e : current.keys()) {
+                    if (live.contains(e.kid()) || e.activatesAt() > now) entries.add(e);
+                }
+            }
+        }
+        entries.add(toEntry(key));
+
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            mapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), new KeyFile(entries));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        // 다음 refresh 에서 다시 읽도록 (자기 자신도 파일 기준으로 반영)
+        fileModified = Long.MIN_VALUE;
+        reloadFile();
+    }
+
+    private static SecretKey hmacKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+    }
+
+    private static SigningKey fromEntry(KeyFile.Entry e) throws GeneralSecurityException {
+        SignatureAlgorithm alg = e.alg() != null ? SignatureAlgorithm.forName(e.alg()) : SignatureAlgorithm.HS256;
+        if (alg.isHmac()) {
+            SecretKey k = hmacKey(e.secret());
+            return new SigningKey(e.kid(), alg, k, k, e.activatesAt());
+        }
+        KeyFactory kf = KeyFactory.getInstance(alg.isRsa() ? "RSA" : "EC");
+        PublicKey pub = kf.generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(e.publicKey())));
+        // 개인키가 없는 항목은 검증 전용(다른 노드가 서명한 토큰 검증)
+        PrivateKey priv = e.privateKey() == null ? null
+                : kf.generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(e.privateKey())));
+        return new SigningKey(e.kid(), alg, priv, pub, e.activatesAt());
+    }
+
+    private static KeyFile.Entry toEntry(SigningKey k) {
+        if (k.algorithm.isHmac()) {
+            return new KeyFile.Entry(k.kid, k.algorithm.getValue(), Encoders.BASE64.encode(k.signKey.getEncoded()),
+                    null, null, k.activatesAt);
+        }
+        return new KeyFile.Entry(k.kid, k.algorithm.getValue(), null,
+                k.canSign() ? Encoders.BASE64.encode(k.signKey.getEncoded()) : null,
+                Encoders.BASE64.encode(k.verifyKey.getEncoded()), k.activatesAt);
+    }
+
+    /** HMAC 은 signKey == verifyKey, 비대칭은 개인키/공개키 (개인키 없으면 검증 전용) */
+    public record SigningKey(String kid, SignatureAlgorithm algorithm, Key signKey, Key verifyKey, long activatesAt) {
+        boolean canSign() {
+            return signKey != null;
+        }
+    }
+
+    public record KeyInfo(String kid, String alg, long activatesAt, boolean active) {}
+
+    private record State(SigningKey active, Map<String, SigningKey> byKid, List<SigningKey> ordered, long version) {}
+
+    /**
+     * 키 파일 형식 (alg 생략 시 HS256)
+     * {"keys":[{"kid":"...","alg":"HS256","secret":"<base64>","activatesAt":<epoch ms>},
+     *          {"kid":"...","alg":"ES256","privateKey":"<PKCS#8 base64>","publicKey":"<X.509 base64>","activatesAt":...}]}
+     */
+    record KeyFile(List<Entry> keys) {
+        record Entry(String kid, String alg, String secret, String privateKey, String publicKey, long activatesAt) {}
+    }
+}
@@ -1,54 +1,109 @@
 package com.kyy.springbootsecuritydemo.common.security.jwt;
 
+import com.kyy.springbootsecuritydemo.common.cache.ExpiringCache;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    private final JwtKeyRing keys;
     private final long expirationMillis;
     private final String issuer;
+    private final JwtParser parser;          // 불변/스레드 안전 → 한 번만 생성 (키는 kid 로 리졸버가 선택)
+    private final VerifiedTokenCache cache;  // null 이면 캐시 비활성
 
+    @Autowired
     public JwtTokenProvider(
-            @Value("${app.jwt.secret}") String base64Secret,
+            JwtKeyRing keys,
             @Value("${app.jwt.expiration-minutes}") long expirationMinutes,
-            @Value("${app.jwt.issuer}") String issuer
+            @Value("${app.jwt.issuer}") String issuer,
+            @Value("${app.jwt.cache.max-size:10000}") int cacheMaxSize,
+            @Value("${app.jwt.cache.max-ttl-seconds:300}") long cacheMaxTtlSeconds
     ) {
-        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        this.keys = keys;
         this.expirationMillis = expirationMinutes * 60_000;
         this.issuer = issuer;
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keys.resolver()).build();
+        this.cache = cacheMaxSize > 0 ? new VerifiedTokenCache(cacheMaxSize, cacheMaxTtlSeconds * 1000) : null;
+        if (cache != null) keys.onKeyRemoved(cache::clear);
     }
 
-    public String generate(UserDetails user) {
-        Instant now = Instant.now();
-        Instant exp = now.plusMillis(expirationMillis);
+    /** 단일 키 (벤치마크용) */
+    public JwtTokenProvider(String base64Secret, long expirationMinutes, String issuer,
+                            int cacheMaxSize, long cacheMaxTtlSeconds) {
+        this(JwtKeyRing.single(base64Secret, expirationMinutes), expirationMinutes, issuer,
+                cacheMaxSize, cacheMaxTtlSeconds);
+    }
 
+    public String generate(UserDetails user) {
         List<String> roles = user.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .toList();
+        return generate(user.getUsername(), roles);
+    }
+
+    /** 리프레시 토큰 회전 시 사용 (UserDetails 조회 없이 저장된 역할로 발급) */
+    public String generate(String username, Collection<String> roles) {
+        Instant now = Instant.now();
+        Instant exp = now.plusMillis(expirationMillis);
+        JwtKeyRing.SigningKey key = keys.active();
 
         return Jwts.builder()
-                .setSubject(user.getUsername())
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
+                .setId(TokenIds.newId())   // 회수(RevocationList) 식별용
+                .setSubject(username)
                 .setIssuer(issuer)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(exp))
                 .claim("roles", roles)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(key.signKey(), key.algorithm())
                 .compact();
     }
 
+    /**
+     * 서명/만료 검증 후 Claims 반환
+     * 같은 토큰이 반복되면 검증 결과 캐시에서 바로 반환(서명 검증·JSON 파싱 생략)
+     */
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        if (cache == null) return parser.parseClaimsJws(token);
+
+        Jws<Claims> hit = cache.get(token);
+        if (hit != null) return hit;
+
+        Jws<Claims> jws = parser.parseClaimsJws(token); // 실패(만료/위조)는 캐시하지 않음
+        cache.put(token, jws);
+        return jws;
+    }
+
+    /** 액세스 토큰 수명(초), 응답의 expiresIn */
+    public long expiresInSeconds() {
+        return expirationMillis / 1000;
+    }
+
+    /** 검증 캐시 통계(비활성 시 null) */
+    public ExpiringCache.Stats cacheStats() {
+        return cache != null ? cache.stats() : null;
+    }
+
+    /** roles 클레임: 없으면 null, 문자열 목록이 아니면 MalformedJwtException */
+    public static List<String> rolesOf(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) return null;
+        for (Object role : roles) {
+            if (!(role instanceof String)) throw new MalformedJwtException("roles claim must be a list of strings");
+        }
+        @SuppressWarnings("unchecked")
+        List<String> checked = (List<String>) roles;
+        return checked;
     }
-}
\ No newline at end of file
+}
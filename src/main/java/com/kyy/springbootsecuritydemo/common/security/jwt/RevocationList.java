@@ -0,0 +1,158 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 전 액세스 토큰 회수 목록 (jti 기준)
+ * - 1차: Bloom 필터(AtomicLongArray, 해시 4 개) → "확실히 회수 안 됨"이면 배열 읽기 4 번으로 끝(할당 없음)
+ * - 2차: 필터가 "있을 수도"라고 할 때만 정확한 맵 조회
+ * - 만료 정렬 집합으로 토큰 exp 가 지난 항목을 정리, 정리한 만큼 필터는 주기적으로 다시 만듦(Bloom 은 삭제 불가)
+ * - 검사 비용은 회수된 토큰 수와 무관하고, 활성 토큰 수와도 무관
+ * - 메모리 전용: 재시작하면 비워짐(액세스 토큰 수명이 짧다는 전제, 리프레시 토큰은 RefreshTokenStore 에서 회수)
+ */
+@Component
+@Lazy(false) // 정리 스케줄 등록
+public class RevocationList {
+
+    private static final int HASHES = 4;
+
+    private final int bitMask;
+    private volatile AtomicLongArray bloom;
+    private final AtomicInteger size = new AtomicInteger(); // 0 이면 필터도 보지 않음
+
+    private final ConcurrentHashMap<Key, Long> exact = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Revoked> byExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparingLong(Revoked::expiresAt).thenComparingLong(Revoked::hi).thenComparingLong(Revoked::lo));
+    private int purgedSinceRebuild; // 정리 스레드에서만 접근
+
+    private final LongAdder revoked = new LongAdder();
+    private final LongAdder bloomHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public RevocationList(@Value("${app.jwt.revocation.bloom-bits:16777216}") int bloomBits) {
+        int bits = Integer.highestOneBit(Math.max(1 << 10, bloomBits)); // 2 의 거듭제곱 → 마스크로 인덱스 계산
+        this.bitMask = bits - 1;
+        this.bloom = new AtomicLongArray(bits >>> 6);
+    }
+
+    /** 검증된 클레임의 jti 가 회수됐는지 (jti 가 없거나 형식이 다르면 false) */
+    public boolean isRevoked(Claims claims) {
+        return size.get() != 0 && isRevoked(claims.getId());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (size.get() == 0 || !TokenIds.isValid(jti)) return false;
+        long hi = TokenIds.hi(jti), lo = TokenIds.lo(jti);
+        if (!mightContain(bloom, hi, lo)) return false;
+
+        bloomHits.increment();
+        if (exact.containsKey(new Key(hi, lo))) return true;
+        falsePositives.increment();
+        return false;
+    }
+
+    /** 토큰 만료 시각까지 회수 (이미 만료됐거나 jti 가 없으면 무시) */
+    public void revoke(Claims claims) {
+        Date exp = claims.getExpiration();
+        revoke(claims.getId(), exp != null ? exp.getTime() : System.currentTimeMillis());
+    }
+
+    public void revoke(String jti, long expiresAtMillis) {
+        if (!TokenIds.isValid(jti) || expiresAtMillis <= System.currentTimeMillis()) return;
+        long hi = TokenIds.hi(jti), lo = TokenIds.lo(jti);
+        // 정확한 맵 → 필터 순서: 필터 재생성이 맵을 다시 훑을 때 빠지지 않도록
+        if (exact.putIfAbsent(new Key(hi, lo), expiresAtMillis) != null) return;
+        byExpiry.add(new Revoked(hi, lo, expiresAtMillis));
+        add(bloom, hi, lo);
+        size.incrementAndGet();
+        revoked.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Revoked head;
+        int removed = 0;
+        while ((head = byExpiry.pollFirst()) != null) {
+            if (head.expiresAt > now) {
+                byExpiry.add(head); // 아직 유효 → 되돌리고 종료
+                break;
+            }
+            if (exact.remove(new Key(head.hi, head.lo), head.expiresAt)) {
+                size.decrementAndGet();
+                removed++;
+            }
+        }
+        if (removed == 0) return;
+        purged.add(removed);
+        purgedSinceRebuild += removed;
+        // 지운 항목 비트가 쌓이면 오탐(정확한 맵 조회)만 늘어남 → 남은 항목만큼 지워졌으면 새로 만듦
+        if (purgedSinceRebuild >= Math.max(1024, size.get())) rebuildBloom();
+    }
+
+    private void rebuildBloom() {
+        AtomicLongArray fresh = new AtomicLongArray(bloom.length());
+        exact.keySet().forEach(k -> add(fresh, k.hi, k.lo));
+        bloom = fresh;
+        // 교체 직전 옛 필터에만 들어간 항목 보정 (교체 이후 revoke 는 새 필터에 기록됨)
+        exact.keySet().forEach(k -> add(fresh, k.hi, k.lo));
+        purgedSinceRebuild = 0;
+        rebuilds.increment();
+    }
+
+    private boolean mightContain(AtomicLongArray bits, long hi, long lo) {
+        long h1 = mix(hi), h2 = mix(lo) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) ((h1 + i * h2) & bitMask);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private void add(AtomicLongArray bits, long hi, long lo) {
+        long h1 = mix(hi), h2 = mix(lo) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) ((h1 + i * h2) & bitMask);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long cur;
+            while (((cur = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, cur, cur | mask)) {
+                // 경합 시 재시도
+            }
+        }
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    public Stats stats() {
+        return new Stats(exact.size(), (bitMask + 1L), revoked.sum(), bloomHits.sum(), falsePositives.sum(),
+                purged.sum(), rebuilds.sum());
+    }
+
+    private record Key(long hi, long lo) {}
+
+    private record Revoked(long hi, long lo, long expiresAt) {}
+
+    public record Stats(int size, long bloomBits, long revoked, long bloomHits, long falsePositives,
+                        long purged, long rebuilds) {}
+}
@@ -0,0 +1,68 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * jti 클레임: 128비트 난수를 base64url 22 자(상위 64비트 11 자 + 하위 64비트 11 자)로 표기
+ * - 서명된 토큰 안의 식별자라 비밀일 필요는 없고 유일하기만 하면 됨 → ThreadLocalRandom
+ * - 문자열 → long 2 개 변환을 할당 없이 하기 위해 절반씩 고정 길이로 인코딩
+ */
+final class TokenIds {
+
+    static final int LENGTH = 22;
+    private static final int HALF = 11;
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        java.util.Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) DECODE[ALPHABET[i]] = (byte) i;
+    }
+
+    private TokenIds() {}
+
+    static String newId() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return of(r.nextLong(), r.nextLong());
+    }
+
+    static String of(long hi, long lo) {
+        char[] out = new char[LENGTH];
+        encode(hi, out, 0);
+        encode(lo, out, HALF);
+        return new String(out);
+    }
+
+    /** 형식이 맞는 jti 인지 (다른 발급자/이전 버전 토큰은 false) */
+    static boolean isValid(String jti) {
+        if (jti == null || jti.length() != LENGTH) return false;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = jti.charAt(i);
+            if (c >= 128 || DECODE[c] < 0) return false;
+        }
+        // 각 절반의 첫 글자는 상위 2비트(66-64)가 0 이어야 함
+        return DECODE[jti.charAt(0)] < 16 && DECODE[jti.charAt(HALF)] < 16;
+    }
+
+    static long hi(String jti) {
+        return decode(jti, 0);
+    }
+
+    static long lo(String jti) {
+        return decode(jti, HALF);
+    }
+
+    private static void encode(long v, char[] out, int off) {
+        for (int i = HALF - 1; i >= 0; i--) {
+            out[off + i] = ALPHABET[(int) (v & 63)];
+            v >>>= 6;
+        }
+    }
+
+    private static long decode(String s, int off) {
+        long v = 0;
+        for (int i = 0; i < HALF; i++) v = (v << 6) | DECODE[s.charAt(off + i)];
+        return v;
+    }
+}
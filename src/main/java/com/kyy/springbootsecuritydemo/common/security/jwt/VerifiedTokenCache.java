@@ -0,0 +1,79 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import com.kyy.springbootsecuritydemo.common.cache.ExpiringCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * - 키: 토큰 원문 대신 SHA-256 다이제스트 앞 128비트(메모리 절약 + 원문 미보관)
+ * - 만료: min(토큰 exp, 현재 + maxTtl) 이후로는 절대 반환하지 않음
+ * - 캐시된 Claims 는 여러 요청이 공유하므로 읽기 전용으로만 사용할 것
+ */
+class VerifiedTokenCache {
+
+    // ThreadLocal 캐시 대신 원형 복제: 가상 스레드(요청마다 새 스레드)에서는 ThreadLocal 이 재사용되지 않고
+    // 스레드마다 다이제스트 + ThreadLocalMap 항목만 늘어남. clone 은 getInstance(프로바이더 조회)보다 저렴
+    private static final MessageDigest SHA256_PROTOTYPE;
+
+    static {
+        try {
+            SHA256_PROTOTYPE = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final ExpiringCache<TokenKey, Jws<Claims>> cache;
+    private final long maxTtlMillis;
+
+    VerifiedTokenCache(int maxSize, long maxTtlMillis) {
+        this.cache = new ExpiringCache<>(maxSize);
+        this.maxTtlMillis = maxTtlMillis;
+    }
+
+    Jws<Claims> get(String token) {
+        return cache.get(keyOf(token));
+    }
+
+    void put(String token, Jws<Claims> jws) {
+        long deadline = System.currentTimeMillis() + maxTtlMillis;
+        Date exp = jws.getBody().getExpiration();
+        if (exp != null) deadline = Math.min(deadline, exp.getTime());
+        cache.put(keyOf(token), jws, deadline);
+    }
+
+    void clear() {
+        cache.clear();
+    }
+
+    ExpiringCache.Stats stats() {
+        return cache.stats();
+    }
+
+    private static TokenKey keyOf(String token) {
+        byte[] d = sha256().digest(token.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer bb = ByteBuffer.wrap(d);
+        return new TokenKey(bb.getLong(), bb.getLong());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private record TokenKey(long hi, long lo) {}
+}
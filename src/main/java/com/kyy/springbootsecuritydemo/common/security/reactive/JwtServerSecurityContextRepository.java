@@ -0,0 +1,95 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleMaskAuthenticationToken;
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
+import com.kyy.springbootsecuritydemo.common.security.filter.JwtAuthenticationFilter.PrincipalMode;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * JwtAuthenticationFilter 의 WebFlux 버전: Bearer 토큰 → SecurityContext
+ * - 같은 JwtTokenProvider(키/검증 캐시), RevocationList, PrincipalMode 규칙 사용
+ * - 토큰이 없거나 잘못됐으면 빈 컨텍스트(익명) → 보호 경로는 RestServerAuthEntryPoint 가 401
+ * - 저장(save)은 하지 않음(무상태)
+ */
+public class JwtServerSecurityContextRepository implements ServerSecurityContextRepository {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtTokenProvider jwt;
+    private final ReactiveUserDetailsService users;
+    private final UserAccountRepository repo;
+    private final PrincipalMode mode;
+    private final RevocationList revocations;
+
+    public JwtServerSecurityContextRepository(JwtTokenProvider jwt, ReactiveUserDetailsService users,
+                                              UserAccountRepository repo, PrincipalMode mode,
+                                              RevocationList revocations) {
+        this.jwt = jwt;
+        this.users = users;
+        this.repo = repo;
+        this.mode = mode != null ? mode : PrincipalMode.DB;
+        this.revocations = revocations;
+    }
+
+    @Override
+    public Mono<Void> save(ServerWebExchange exchange, SecurityContext context) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<SecurityContext> load(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) return Mono.empty();
+
+        String username;
+        List<GrantedAuthority> authorities;
+        try {
+            // 서명 검증은 CPU 작업(검증 캐시 적중 시 해시 1 회) → 이벤트 루프에서 바로 처리
+            Claims claims = jwt.parse(header.substring(BEARER.length())).getBody();
+            if (revocations != null && revocations.isRevoked(claims)) return Mono.empty();
+            username = claims.getSubject();
+            List<String> roles = JwtTokenProvider.rolesOf(claims);
+            authorities = roles == null ? null : RoleRegistry.authoritiesOf(roles);
+        } catch (Exception e) {
+            return Mono.empty();
+        }
+
+        return resolvePrincipal(username, authorities)
+                .<SecurityContext>map(user -> new SecurityContextImpl(RoleMaskAuthenticationToken.of(
+                        user, null, authorities == null ? user.getAuthorities() : authorities)))
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private Mono<UserDetails> resolvePrincipal(String username, List<GrantedAuthority> authorities) {
+        if (authorities == null || mode == PrincipalMode.DB) {
+            return users.findByUsername(username);
+        }
+        Mono<UserDetails> stateless = Mono.fromSupplier(() -> User.withUsername(username)
+                .password("")
+                .authorities(authorities)
+                .build());
+        if (mode == PrincipalMode.VALIDATED) {
+            return Mono.fromCallable(() -> repo.findEnabledByUsername(username).orElse(false))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .filter(Boolean::booleanValue) // 비활성/없음 → 익명
+                    .flatMap(enabled -> stateless);
+        }
+        return stateless;
+    }
+}
@@ -0,0 +1,91 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import com.kyy.springbootsecuritydemo.common.response.ApiResponse;
+import com.kyy.springbootsecuritydemo.common.security.controller.AuthController;
+import com.kyy.springbootsecuritydemo.common.security.controller.TokenResponse;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginExecutor;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginRateLimiter;
+import com.kyy.springbootsecuritydemo.common.security.token.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * AuthController 의 WebFlux 버전
+ * - 사용자 조회(JPA) + BCrypt 는 LoginExecutor 풀에서 실행 → 이벤트 루프를 막지 않음
+ * - 응답은 Servlet 쪽 GlobalResponseAdvice 와 같은 ApiResponse 형태로 직접 감쌈
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthController {
+
+    private final AuthenticationManager authManager;
+    private final JwtTokenProvider jwt;
+    private final LoginExecutor loginExecutor;
+    private final RefreshTokenStore refreshTokens;
+    private final RevocationList revocations;
+    private final LoginRateLimiter rateLimiter;
+
+    public ReactiveAuthController(AuthenticationManager authManager, JwtTokenProvider jwt, LoginExecutor loginExecutor,
+                                  RefreshTokenStore refreshTokens, RevocationList revocations,
+                                  LoginRateLimiter rateLimiter) {
+        this.authManager = authManager;
+        this.jwt = jwt;
+        this.loginExecutor = loginExecutor;
+        this.refreshTokens = refreshTokens;
+        this.revocations = revocations;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @PostMapping("/login")
+    public Mono<ApiResponse<TokenResponse>> login(@RequestBody AuthController.LoginRequest req, ServerHttpRequest http) {
+        long start = System.nanoTime();
+        var remote = http.getRemoteAddress();
+        String ip = remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : null;
+        return Mono.fromRunnable(() -> rateLimiter.acquire(req.username(), ip))
+                .then(Mono.fromFuture(() -> loginExecutor.submit(
+                        () -> AuthController.authenticate(authManager, rateLimiter, req))))
+                .map(auth -> ApiResponse.ok(tokenResponse(auth), http.getPath().value(), null,
+                        (System.nanoTime() - start) / 1_000_000));
+    }
+
+    /** 회전은 메모리 조회 + 해시 1 회라 이벤트 루프에서 바로 처리 */
+    @PostMapping("/refresh")
+    public Mono<ApiResponse<TokenResponse>> refresh(@RequestBody AuthController.RefreshRequest req, ServerHttpRequest http) {
+        long start = System.nanoTime();
+        return Mono.fromSupplier(() -> {
+            RefreshTokenStore.Rotation r = refreshTokens.rotate(req.refreshToken());
+            TokenResponse body = TokenResponse.bearer(r.username(), r.roles(), jwt.generate(r.username(), r.roles()),
+                    jwt.expiresInSeconds(), r.refreshToken());
+            return ApiResponse.ok(body, http.getPath().value(), null, (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                             @RequestBody(required = false) AuthController.RefreshRequest req) {
+        return Mono.fromSupplier(() -> {
+            revocations.revoke(jwt.parse(AuthController.bearerToken(authorization)).getBody());
+            if (req != null && req.refreshToken() != null) refreshTokens.revoke(req.refreshToken());
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    private TokenResponse tokenResponse(Authentication auth) {
+        UserDetails principal = (UserDetails) auth.getPrincipal();
+        List<String> roles = TokenResponse.rolesOf(principal);
+        return TokenResponse.bearer(principal.getUsername(), roles, jwt.generate(principal.getUsername(), roles),
+                jwt.expiresInSeconds(), refreshTokens.issue(principal.getUsername(), roles));
+    }
+}
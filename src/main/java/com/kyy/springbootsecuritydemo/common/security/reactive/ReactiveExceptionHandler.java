@@ -0,0 +1,158 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import com.kyy.springbootsecuritydemo.common.error.ApiError;
+import com.kyy.springbootsecuritydemo.common.response.ApiResponse;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginBusyException;
+import com.kyy.springbootsecuritydemo.common.security.service.LoginRateLimitedException;
+import com.kyy.springbootsecuritydemo.common.security.token.InvalidRefreshTokenException;
+import io.jsonwebtoken.JwtException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.stream.Collectors;
+
+/**
+ * GlobalExceptionHandler 의 WebFlux 버전 (같은 코드/상태/ApiError 본문)
+ * - Servlet 전용 예외(NoHandlerFoundException 등)는 WebFlux 대응 예외로 매핑
+ */
+@RestControllerAdvice
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    // 400 - 잘못된 요청 바디/파라미터 (디코딩 실패, 타입 불일치, 필수 값 누락)
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiError> handleBadRequest(ServerWebInputException ex, ServerHttpRequest req) {
+        return build(HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getReason(), req);
+    }
+
+    // 400 - @Valid 바인딩 에러
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiError> handleValidation(WebExchangeBindException ex, ServerHttpRequest req) {
+        var api = base(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", "입력값을 확인하세요.", req);
+        api.fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+                .map(fe -> new ApiError.FieldError(fe.getField(), fe.getDefaultMessage(), fe.getRejectedValue()))
+                .collect(Collectors.toList());
+        return ResponseEntity.status(api.status).body(api);
+    }
+
+    // 401 - 인증 실패 (비활성/잠금 계정도 사유를 드러내지 않음)
+    @ExceptionHandler({ BadCredentialsException.class, UsernameNotFoundException.class,
+            DisabledException.class, LockedException.class })
+    public ResponseEntity<ApiError> handleAuthFail(Exception ex, ServerHttpRequest req) {
+        return build(HttpStatus.UNAUTHORIZED, "AUTH_FAILED", "인증에 실패했습니다.", req);
+    }
+
+    // 401 - 컨트롤러에서 직접 파싱한 JWT 가 잘못됨/만료
+    @ExceptionHandler(JwtException.class)
+    public ResponseEntity<ApiError> handleInvalidToken(JwtException ex, ServerHttpRequest req) {
+        return build(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN", "토큰이 유효하지 않습니다.", req);
+    }
+
+    // 401 - 리프레시 토큰 없음/만료/재사용
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ApiError> handleInvalidRefresh(InvalidRefreshTokenException ex, ServerHttpRequest req) {
+        return build(HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", "다시 로그인하세요.", req);
+    }
+
+    // 403 - 권한 부족 (보안 설정에서 못 잡혔을 때의 안전망)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiError> handleDenied(AccessDeniedException ex, ServerHttpRequest req) {
+        return build(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "접근 권한이 없습니다.", req);
+    }
+
+    // 503 - 로그인 해시 작업 큐 포화
+    @ExceptionHandler(LoginBusyException.class)
+    public ResponseEntity<ApiError> handleLoginBusy(LoginBusyException ex, ServerHttpRequest req) {
+        var api = base(HttpStatus.SERVICE_UNAVAILABLE, "LOGIN_BUSY", "로그인 요청이 많습니다. 잠시 후 다시 시도하세요.", req);
+        return ResponseEntity.status(api.status).header(HttpHeaders.RETRY_AFTER, "1").body(api);
+    }
+
+    // 404/409 - 도메인 예외
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ApiError> handleEntityNotFound(EntityNotFoundException ex, ServerHttpRequest req) {
+        return build(HttpStatus.NOT_FOUND, "ENTITY_NOT_FOUND", ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleDataIntegrity(DataIntegrityViolationException ex, ServerHttpRequest req) {
+        return build(HttpStatus.CONFLICT, "DATA_INTEGRITY", "데이터 무결성 위반입니다.", req);
+    }
+
+    // 405 - 메서드 미지원
+    @ExceptionHandler(MethodNotAllowedException.class)
+    public ResponseEntity<ApiError> handleMethod(MethodNotAllowedException ex, ServerHttpRequest req) {
+        return build(HttpStatus.METHOD_NOT_ALLOWED, "METHOD_NOT_ALLOWED", ex.getReason(), req);
+    }
+
+    // 404 등 - 프레임워크가 상태를 정한 예외(NoResourceFoundException 등)는 상태 유지
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiError> handleStatus(ResponseStatusException ex, ServerHttpRequest req) {
+        HttpStatusCode code = ex.getStatusCode();
+        HttpStatus status = HttpStatus.resolve(code.value());
+        if (status == null) status = HttpStatus.INTERNAL_SERVER_ERROR;
+        String apiCode = status == HttpStatus.NOT_FOUND ? "NOT_FOUND" : status.name();
+        return build(status, apiCode, ex.getReason(), req);
+    }
+
+    // 400 - 잘못된 인자
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBad(IllegalArgumentException ex, ServerHttpRequest req) {
+        log.warn("BAD: {}", ex.getMessage());
+        return wrap(HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getMessage(), req);
+    }
+
+    // 500 - 그 외 모든 예외
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleAny(Exception ex, ServerHttpRequest req) {
+        log.error("Unhandled error at {}", req.getPath().value(), ex);
+        return wrap(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "알 수 없는 오류가 발생했습니다.", req);
+    }
+
+    // -------------------------------
+
+    private ResponseEntity<ApiError> build(HttpStatus status, String code, String msg, ServerHttpRequest req) {
+        return ResponseEntity.status(status).body(base(status, code, msg, req));
+    }
+
+    // 429 - 로그인 시도 한도 초과
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<ApiError> handleLoginRateLimited(LoginRateLimitedException ex, ServerHttpRequest req) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.retryAfterSeconds()))
+                .body(base(HttpStatus.TOO_MANY_REQUESTS, "LOGIN_RATE_LIMITED", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도하세요.", req));
+    }
+
+    private ApiError base(HttpStatus status, String code, String msg, ServerHttpRequest req) {
+        var api = new ApiError();
+        api.status  = status.value();
+        api.error   = status.getReasonPhrase();
+        api.code    = code;
+        api.message = msg;
+        api.path    = req.getPath().value();
+        return api;
+    }
+
+    private ResponseEntity<ApiResponse<Void>> wrap(HttpStatus status, String code, String msg, ServerHttpRequest req) {
+        var body = ApiResponse.<Void>error(code, msg, req.getPath().value(), null, null);
+        return ResponseEntity.status(status).body(body);
+    }
+}
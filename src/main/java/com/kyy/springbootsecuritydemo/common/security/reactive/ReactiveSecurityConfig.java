@@ -0,0 +1,76 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import com.kyy.springbootsecuritydemo.common.entrypoint.RestServerAccessDeniedHandler;
+import com.kyy.springbootsecuritydemo.common.entrypoint.RestServerAuthEntryPoint;
+import com.kyy.springbootsecuritydemo.common.security.controller.JwksController;
+import com.kyy.springbootsecuritydemo.common.security.filter.JwtAuthenticationFilter;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import com.kyy.springbootsecuritydemo.common.security.service.BoundedUserCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 보안 설정 (reactive 프로필: spring.main.web-application-type=reactive)
+ * - 토큰 형식/서명 키/권한 규칙은 Servlet SecurityConfig 와 동일
+ * - JPA 조회는 블로킹이라 boundedElastic 에서 실행, 사용자 캐시 적중 시에는 스레드 전환 없음
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    @Bean
+    SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                  JwtServerSecurityContextRepository contextRepository) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(contextRepository)
+                .authorizeExchange(ex -> ex
+                        .pathMatchers("/api/public/**", "/auth/login", "/auth/refresh", JwksController.PATH).permitAll()
+                        .pathMatchers("/api/admin/**", "/internal/**").hasRole("ADMIN")
+                        .pathMatchers("/api/user/**").hasAnyRole("USER", "ADMIN")
+                        .anyExchange().authenticated()
+                )
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint(new RestServerAuthEntryPoint())
+                        .accessDeniedHandler(new RestServerAccessDeniedHandler())
+                )
+                .build();
+    }
+
+    /** 캐시(BoundedUserCache) 먼저, 없으면 기존 UserDetailsService(JPA + 캐시 적재)를 boundedElastic 에서 */
+    @Bean
+    ReactiveUserDetailsService reactiveUserDetailsService(UserDetailsService uds, BoundedUserCache userCache) {
+        return username -> {
+            UserDetails cached = userCache.getUserFromCache(username);
+            if (cached != null) return Mono.just(cached);
+            return Mono.fromCallable(() -> uds.loadUserByUsername(username))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty());
+        };
+    }
+
+    @Bean
+    JwtServerSecurityContextRepository jwtServerSecurityContextRepository(
+            JwtTokenProvider jwt, ReactiveUserDetailsService users, UserAccountRepository repo,
+            @Value("${app.jwt.principal-mode:db}") JwtAuthenticationFilter.PrincipalMode principalMode,
+            RevocationList revocations) {
+        return new JwtServerSecurityContextRepository(jwt, users, repo, principalMode, revocations);
+    }
+}
@@ -1,10 +1,20 @@
 package com.kyy.springbootsecuritydemo.common.security.repository;
 
 import com.kyy.springbootsecuritydemo.common.security.domain.entity.UserAccount;
+import com.kyy.springbootsecuritydemo.common.security.domain.vo.UserAuthView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
     Optional<UserAccount> findByUsername(String username);
+
+    /** 로그인/DB 모드 JWT 용: username, password, enabled, roles 만 조회 (엔티티 미관리) */
+    Optional<UserAuthView> findAuthByUsername(String username);
+
+    /** JWT 요청 경로용 경량 상태 조회 (enabled 컬럼만) */
+    @Query("select u.enabled from UserAccount u where u.username = :username")
+    Optional<Boolean> findEnabledByUsername(@Param("username") String username);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import com.kyy.springbootsecuritydemo.common.cache.ExpiringCache;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 크기/TTL 제한 UserCache (CachingUserDetailsService 용)
+ * - 반환 시 사본을 돌려줌: ProviderManager 가 인증 후 eraseCredentials() 로
+ *   principal 의 password 를 지우므로, 캐시 원본이 오염되지 않도록 보호
+ */
+public class BoundedUserCache implements UserCache {
+
+    private final ExpiringCache<String, UserDetails> cache;
+    private final long ttlMillis;
+
+    public BoundedUserCache(int maxSize, long ttlMillis) {
+        this.cache = new ExpiringCache<>(maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails cached = cache.get(username);
+        return cached != null ? User.withUserDetails(cached).build() : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), User.withUserDetails(user).build(),
+                System.currentTimeMillis() + ttlMillis);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.remove(username);
+    }
+
+    public ExpiringCache.Stats stats() {
+        return cache.stats();
+    }
+}
@@ -1,21 +1,22 @@
 package com.kyy.springbootsecuritydemo.common.security.service;
 
 
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleRegistry;
 import com.kyy.springbootsecuritydemo.common.security.domain.entity.UserAccount;
+import com.kyy.springbootsecuritydemo.common.security.domain.vo.UserAuthView;
 import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.stream.Collectors;
-
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 
 @Service
-public class JpaUserDetailsService implements UserDetailsService {
+public class JpaUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserAccountRepository repo;
 
@@ -25,17 +26,27 @@ public class JpaUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        UserAccount ua = repo.findByUsername(username)
+        UserAuthView ua = repo.findAuthByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("No user: " + username));
         return User.builder()
                 .username(ua.getUsername())
                 .password(ua.getPassword())
-                .authorities(
-                        ua.getRoles().stream()
-                                .map(SimpleGrantedAuthority::new)
-                                .collect(Collectors.toSet())
-                )
+                .authorities(RoleRegistry.authoritiesOf(ua.getRoles()))
                 .disabled(!ua.isEnabled())
                 .build();
     }
+
+    /**
+     * 해시 cost 변경 시 로그인 성공 직후 호출됨 (저장 → 엔티티 리스너가 사용자 캐시 무효화)
+     * 재해시로 표시해 리프레시 토큰은 회수하지 않음 (트랜잭션 안에서 같은 관리 엔티티로 flush 해야 표시가 유지됨)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserAccount ua = repo.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("No user: " + user.getUsername()));
+        ua.rehashPassword(newPassword);
+        repo.save(ua);
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
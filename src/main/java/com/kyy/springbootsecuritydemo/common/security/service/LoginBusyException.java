@@ -0,0 +1,8 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+/** 로그인 해시 작업 큐가 가득 차 즉시 거절할 때 (→ 503) */
+public class LoginBusyException extends RuntimeException {
+    public LoginBusyException() {
+        super("Login executor saturated");
+    }
+}
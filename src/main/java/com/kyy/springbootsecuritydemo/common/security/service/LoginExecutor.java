@@ -0,0 +1,72 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 검증(BCrypt) 전용 제한 실행기
+ * - 스레드 수: 코어 수(기본), 큐: 고정 크기 → 로그인 폭주가 Tomcat 요청 스레드/CPU 를 독점하지 못함
+ * - 큐가 가득 차면 대기 없이 LoginBusyException(503)
+ * - 작업 시간(해시 + 사용자 조회) 분포를 히스토그램으로 기록
+ */
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor pool;
+    private final int queueCapacity;
+    private final LatencyHistogram taskTime = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+
+    public LoginExecutor(
+            @Value("${app.auth.login-executor.threads:0}") int threads,
+            @Value("${app.auth.login-executor.queue-capacity:0}") int queueCapacity
+    ) {
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity > 0 ? queueCapacity : n * 8;
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "login-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    taskTime.record(System.nanoTime() - start);
+                }
+            }, pool);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginBusyException();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(pool.getMaximumPoolSize(), pool.getActiveCount(), pool.getQueue().size(),
+                queueCapacity, pool.getCompletedTaskCount(), rejected.sum(), taskTime.snapshot());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    public record Stats(int threads, int active, int queued, int queueCapacity,
+                        long completed, long rejected, LatencyHistogram.Snapshot taskTime) {}
+}
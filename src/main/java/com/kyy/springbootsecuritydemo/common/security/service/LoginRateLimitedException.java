@@ -0,0 +1,16 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+/** 사용자명/IP 별 로그인 시도 한도 초과 (→ 429, Retry-After) */
+public class LoginRateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException(long retryAfterSeconds) {
+        super("Too many login attempts");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
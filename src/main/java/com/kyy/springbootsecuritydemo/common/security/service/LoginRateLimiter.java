@@ -0,0 +1,142 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (사용자명별 + IP별 토큰 버킷), AuthenticationManager/BCrypt 호출 전에 확인
+ * - 버킷 = GCRA(토큰 버킷과 동일한 판정을 long 1 개 "다음 허용 시각"으로 표현) → 슬롯당 8바이트, CAS 로만 갱신(락 없음)
+ * - 키는 시드 해시로 고정 크기 AtomicLongArray 슬롯에 매핑(1 행 스케치) → 사용자/IP 가 아무리 많아도 메모리 고정
+ *   충돌 시 두 키가 한 버킷을 공유(더 엄격해질 뿐 느슨해지지 않음), 시드는 기동마다 달라 충돌을 의도적으로 만들 수 없음
+ * - IP 버킷은 시도마다 차감, 사용자명 버킷은 해시 전에는 확인만 하고 인증 실패(recordFailure) 때만 차감
+ *   → 다른 IP 에서 오는 성공/미완료 요청이 아무리 많아도 그 사용자의 로그인을 막지 못함
+ * - 사용자명은 소문자로 정규화(대소문자 변형으로 한도 우회 방지), 없는 사용자명도 같은 한도 적용
+ * - IP 는 호출부가 넘긴 원격 주소: 프록시 뒤에서는 server.forward-headers-strategy 로 신뢰할 프록시의 X-Forwarded-For 만 반영
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Bucket users;
+    private final Bucket ips;
+    private final long seed = new SecureRandom().nextLong();
+    private final long origin = System.nanoTime();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByUser = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public LoginRateLimiter(
+            @Value("${app.auth.rate-limit.slots:65536}") int slots,
+            @Value("${app.auth.rate-limit.user.capacity:5}") int userCapacity,
+            @Value("${app.auth.rate-limit.user.per-minute:5}") int userPerMinute,
+            @Value("${app.auth.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${app.auth.rate-limit.ip.per-minute:60}") int ipPerMinute
+    ) {
+        int n = Integer.highestOneBit(Math.max(1024, slots));
+        this.users = new Bucket(n, userCapacity, userPerMinute);
+        this.ips = new Bucket(n, ipCapacity, ipPerMinute);
+    }
+
+    /** 한도 초과면 LoginRateLimitedException (IP 먼저 차감 → 사용자명은 확인만) */
+    public void acquire(String username, String ip) {
+        acquire(username, ip, nowMicros());
+    }
+
+    /** 인증 실패(비밀번호 불일치/없는 사용자 등) 때 호출 → 사용자명 버킷 차감 */
+    public void recordFailure(String username) {
+        recordFailure(username, nowMicros());
+    }
+
+    /** 시각(µs)을 직접 받는 버전 (테스트용) */
+    void acquire(String username, String ip, long now) {
+        long wait = ip != null ? ips.tryAcquire(slotOf(ip, ips.mask), now) : 0;
+        if (wait > 0) {
+            rejectedByIp.increment();
+            throw new LoginRateLimitedException(toSeconds(wait));
+        }
+        wait = users.check(userSlot(username), now);
+        if (wait > 0) {
+            rejectedByUser.increment();
+            throw new LoginRateLimitedException(toSeconds(wait));
+        }
+        allowed.increment();
+    }
+
+    /**
+     * 확인과 차감 사이에 다른 실패가 끼어 이미 한도면 차감하지 않음
+     * → 동시 실패가 몰려도 허용 시각이 버스트 이상으로 밀리지 않음(잠금 기간이 늘어나지 않음)
+     */
+    void recordFailure(String username, long now) {
+        users.tryAcquire(userSlot(username), now);
+        failures.increment();
+    }
+
+    public Stats stats() {
+        return new Stats(allowed.sum(), failures.sum(), rejectedByUser.sum(), rejectedByIp.sum(),
+                users.slots.length());
+    }
+
+    private long nowMicros() {
+        return (System.nanoTime() - origin) / 1000;
+    }
+
+    private int userSlot(String username) {
+        return slotOf(username == null ? "" : username.toLowerCase(Locale.ROOT), users.mask);
+    }
+
+    /** 시드 FNV-1a + fmix64 (String.hashCode 는 충돌을 쉽게 만들 수 있어 사용하지 않음) */
+    private int slotOf(String key, int mask) {
+        long h = seed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (h ^ (h >>> 33)) & mask;
+    }
+
+    private static long toSeconds(long micros) {
+        return Math.max(1, (micros + 999_999) / 1_000_000);
+    }
+
+    /** 슬롯 값 = 이론상 다음 허용 시각(tat, µs). 허용 조건: now >= tat - burst */
+    private static final class Bucket {
+        final AtomicLongArray slots;
+        final int mask;
+        final long intervalMicros; // 토큰 1 개 보충 간격
+        final long burstMicros;    // (capacity - 1) 개까지 몰아서 허용
+
+        Bucket(int n, int capacity, int perMinute) {
+            this.slots = new AtomicLongArray(n);
+            this.mask = n - 1;
+            this.intervalMicros = 60_000_000L / Math.max(1, perMinute);
+            this.burstMicros = intervalMicros * (Math.max(1, capacity) - 1);
+        }
+
+        /** tryAcquire 와 같은 판정이지만 차감하지 않음 */
+        long check(int slot, long now) {
+            long allowAt = Math.max(slots.get(slot), now) - burstMicros;
+            return now < allowAt ? allowAt - now : 0;
+        }
+
+        /** 허용이면 0, 거절이면 다음 허용까지 남은 µs */
+        long tryAcquire(int slot, long now) {
+            while (true) {
+                long tat = slots.get(slot);
+                long base = Math.max(tat, now);
+                long allowAt = base - burstMicros;
+                if (now < allowAt) return allowAt - now; // 거절은 버킷을 소모하지 않음
+                if (slots.compareAndSet(slot, tat, base + intervalMicros)) return 0;
+            }
+        }
+    }
+
+    public record Stats(long allowed, long failures, long rejectedByUser, long rejectedByIp, int slotsPerBucket) {}
+}
@@ -0,0 +1,8 @@
+package com.kyy.springbootsecuritydemo.common.security.token;
+
+/** 없거나 만료/회수/재사용된 리프레시 토큰 (401) */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String reason) {
+        super(reason);
+    }
+}
@@ -0,0 +1,406 @@
+package com.kyy.springbootsecuritydemo.common.security.token;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회전(rotation) 방식 리프레시 토큰 저장소 (메모리 + 선택적 파일 스냅샷)
+ * - 클라이언트에는 32바이트 난수, 저장소에는 SHA-256 앞 128비트만 보관(스냅샷 파일에도 원문 없음)
+ * - 한 번 쓴 토큰은 만료 시각까지 "사용됨"으로 남김 → 다시 제시되면 탈취로 보고 같은 로그인(family) 전체 회수
+ * - 만료 인덱스: 분 단위 버킷(정렬 맵) → 정리 작업은 지난 버킷만 꺼내 확인(전체 순회 없음)
+ * - 갱신 경로는 해시 1 회 + 맵 조회뿐, 비밀번호 해시·사용자 DB 조회 없음
+ *   (역할은 로그인 시점 값 유지)
+ * - username → 살아 있는 family 인덱스: 비활성화/삭제/비밀번호 변경 시 UserAccountCacheListener 가 revokeUser 로 모두 회수
+ */
+@Slf4j
+@Component
+@Lazy(false) // fast-start(지연 초기화)에서도 기동 시 스냅샷 복원 + 정리 스케줄 등록
+public class RefreshTokenStore {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final long BUCKET_MILLIS = 60_000;
+    private static final int SNAPSHOT_MAGIC = 0x52544b31; // "RTK1"
+
+    private static final MessageDigest SHA256_PROTOTYPE;
+
+    static {
+        try {
+            SHA256_PROTOTYPE = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final SecureRandom random = new SecureRandom();
+    private final long ttlMillis;
+    private final long maxLifetimeMillis;
+    private final Path snapshotFile; // null 이면 메모리 전용
+
+    private final ConcurrentHashMap<Key, Entry> active = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Family> used = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Queue<Key>> expiryIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Set<Family>> byUser = new ConcurrentHashMap<>();
+    private final AtomicLong familySeq = new AtomicLong(System.currentTimeMillis() << 16);
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder rotated = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder reuseDetected = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    @Autowired
+    public RefreshTokenStore(
+            @Value("${app.jwt.refresh.ttl-hours:336}") long ttlHours,
+            @Value("${app.jwt.refresh.max-lifetime-hours:720}") long maxLifetimeHours,
+            @Value("${app.jwt.refresh.snapshot-file:}") String snapshotFile
+    ) {
+        this(TimeUnit.HOURS.toMillis(ttlHours), TimeUnit.HOURS.toMillis(maxLifetimeHours),
+                snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile));
+    }
+
+    /** 밀리초 단위 (테스트용) */
+    RefreshTokenStore(long ttlMillis, long maxLifetimeMillis, Path snapshotFile) {
+        this.ttlMillis = ttlMillis;
+        this.maxLifetimeMillis = Math.max(ttlMillis, maxLifetimeMillis);
+        this.snapshotFile = snapshotFile;
+    }
+
+    /** 로그인 성공 시 새 family 의 첫 토큰 발급 */
+    public String issue(String username, List<String> roles) {
+        long now = System.currentTimeMillis();
+        Family family = new Family(familySeq.incrementAndGet(), username, List.copyOf(roles), now + maxLifetimeMillis);
+        issued.increment();
+        indexUser(family);
+        return addToken(family, now);
+    }
+
+    /**
+     * 토큰 1 회 사용 → 같은 family 의 새 토큰으로 교체
+     * - 이미 사용된 토큰이면 family 전체 회수 후 거절
+     */
+    public Rotation rotate(String token) {
+        Key key = keyOf(token);
+        if (key == null) throw reject("malformed");
+
+        Entry e = active.remove(key); // 동시 요청 중 하나만 성공
+        if (e == null) {
+            Family reused = used.get(key);
+            if (reused != null) {
+                reuseDetected.increment();
+                revokeFamily(reused);
+                log.warn("refresh token reuse detected: user={}, family={}", reused.username, reused.id);
+                throw reject("reused");
+            }
+            throw reject("unknown");
+        }
+
+        long now = System.currentTimeMillis();
+        dirty.set(true);
+        Family family = e.family;
+        if (e.expiresAt <= now) {
+            unindexUser(family); // 현재 토큰이 만료 → family 도 더 이어질 수 없음
+            throw reject("expired");
+        }
+        used.put(key, family); // 만료 인덱스에는 이미 e.expiresAt 버킷으로 들어가 있음
+
+        String next;
+        synchronized (family) { // 회수와 교차하면 회수된 family 에 새 토큰이 남지 않도록
+            if (family.revoked) throw reject("revoked");
+            next = addToken(family, now);
+        }
+        rotated.increment();
+        return new Rotation(family.username, family.roles, next);
+    }
+
+    /** family 의 현재 토큰 회수 (재사용 감지 / 로그아웃 / 사용자 회수) */
+    private void revokeFamily(Family family) {
+        synchronized (family) {
+            family.revoked = true;
+            if (family.current != null) active.remove(family.current);
+        }
+        unindexUser(family);
+        dirty.set(true);
+    }
+
+    /** 사용자의 모든 family 회수 (비활성화/삭제/비밀번호 변경), 회수한 family 수 반환 */
+    public int revokeUser(String username) {
+        Set<Family> families = byUser.remove(username);
+        if (families == null) return 0;
+        families.forEach(this::revokeFamily);
+        log.info("refresh tokens revoked: user={}, families={}", username, families.size());
+        return families.size();
+    }
+
+    private void indexUser(Family family) {
+        byUser.compute(family.username, (u, set) -> { // unindexUser 와 같은 키 단위 원자 연산 (빈 set 제거와 경합 방지)
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(family);
+            return set;
+        });
+    }
+
+    private void unindexUser(Family family) {
+        byUser.computeIfPresent(family.username, (u, set) -> {
+            set.remove(family);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /** 제시된 토큰이 속한 family 회수 (모르는 토큰이면 무시) */
+    public void revoke(String token) {
+        Key key = keyOf(token);
+        if (key == null) return;
+        Entry e = active.get(key);
+        Family f = e != null ? e.family : used.get(key);
+        if (f != null) revokeFamily(f);
+    }
+
+    private String addToken(Family family, long now) {
+        byte[] raw = new byte[TOKEN_BYTES];
+        random.nextBytes(raw);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        Key key = keyOf(raw);
+        long expiresAt = Math.min(now + ttlMillis, family.expiresAt);
+
+        family.current = key;
+        active.put(key, new Entry(family, expiresAt));
+        index(key, expiresAt);
+        dirty.set(true);
+        return token;
+    }
+
+    private void index(Key key, long expiresAt) {
+        expiryIndex.computeIfAbsent(expiresAt / BUCKET_MILLIS, b -> new ConcurrentLinkedQueue<>()).add(key);
+    }
+
+    /** 지난 버킷의 키만 확인해 만료 토큰·사용됨 기록 제거 */
+    @Scheduled(fixedDelayString = "${app.jwt.refresh.purge-interval-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void purgeExpired() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    void purgeExpired(long now) {
+        long currentBucket = now / BUCKET_MILLIS;
+        int removed = 0;
+        Map.Entry<Long, Queue<Key>> bucket;
+        while ((bucket = expiryIndex.firstEntry()) != null && bucket.getKey() < currentBucket) {
+            expiryIndex.remove(bucket.getKey(), bucket.getValue());
+            for (Key key : bucket.getValue()) {
+                Entry e = active.get(key);
+                if (e != null && e.expiresAt <= now && active.remove(key, e)) {
+                    removed++;
+                    if (e.family.current == key) unindexUser(e.family);
+                }
+                if (used.remove(key) != null) removed++; // 사용됨 기록은 원래 토큰 만료 버킷에서 함께 정리
+            }
+        }
+        if (removed > 0) {
+            purged.add(removed);
+            dirty.set(true);
+        }
+    }
+
+    // ---------- 스냅샷 ----------
+
+    @PostConstruct
+    void load() {
+        if (snapshotFile == null || !Files.isRegularFile(snapshotFile)) return;
+        long now = System.currentTimeMillis();
+        Map<Long, Family> families = new HashMap<>();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) throw new IOException("unknown snapshot format");
+            familySeq.accumulateAndGet(in.readLong(), Math::max);
+
+            int familyCount = in.readInt();
+            for (int i = 0; i < familyCount; i++) {
+                long id = in.readLong();
+                String username = in.readUTF();
+                int roleCount = in.readUnsignedShort();
+                List<String> roles = new ArrayList<>(roleCount);
+                for (int r = 0; r < roleCount; r++) roles.add(in.readUTF());
+                Family f = new Family(id, username, List.copyOf(roles), in.readLong());
+                f.revoked = in.readBoolean();
+                families.put(id, f);
+            }
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                Key key = new Key(in.readLong(), in.readLong());
+                Family f = families.get(in.readLong());
+                long expiresAt = in.readLong();
+                boolean isUsed = in.readBoolean();
+                if (f == null || expiresAt <= now) continue;
+                if (isUsed) {
+                    used.put(key, f);
+                } else if (!f.revoked) {
+                    f.current = key;
+                    active.put(key, new Entry(f, expiresAt));
+                    indexUser(f);
+                    restored++;
+                }
+                index(key, expiresAt);
+            }
+            log.info("refresh tokens restored: {} active, {} used from {}", restored, used.size(), snapshotFile);
+        } catch (IOException e) {
+            // 스냅샷이 깨졌으면 모두 재로그인 (일부만 복원하면 reuse 감지가 어긋날 수 있음)
+            active.clear();
+            used.clear();
+            expiryIndex.clear();
+            byUser.clear();
+            log.warn("refresh token snapshot ignored ({}): {}", snapshotFile, e.toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh.snapshot-interval-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void snapshot() {
+        if (snapshotFile == null || !dirty.getAndSet(false)) return;
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            dirty.set(true); // 다음 주기에 재시도
+            log.warn("refresh token snapshot failed ({}): {}", snapshotFile, e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        snapshot();
+    }
+
+    private synchronized void writeSnapshot() throws IOException {
+        // 순회 중 변경은 다음 스냅샷에 반영(dirty 는 쓰기 전에 내렸으므로 유실 없음)
+        Map<Long, Family> families = new HashMap<>();
+        List<SnapshotRow> rows = new ArrayList<>(active.size() + used.size());
+        active.forEach((k, e) -> {
+            families.putIfAbsent(e.family.id, e.family);
+            rows.add(new SnapshotRow(k, e.family, e.expiresAt, false));
+        });
+        used.forEach((k, f) -> {
+            families.putIfAbsent(f.id, f);
+            rows.add(new SnapshotRow(k, f, f.expiresAt, true)); // 원래 만료는 family 상한 이내 → 보수적으로 유지
+        });
+
+        Path dir = snapshotFile.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(familySeq.get());
+                out.writeInt(families.size());
+                for (Family f : families.values()) {
+                    out.writeLong(f.id);
+                    out.writeUTF(f.username);
+                    out.writeShort(f.roles.size());
+                    for (String r : f.roles) out.writeUTF(r);
+                    out.writeLong(f.expiresAt);
+                    out.writeBoolean(f.revoked);
+                }
+                out.writeInt(rows.size());
+                for (SnapshotRow row : rows) {
+                    out.writeLong(row.key.hi);
+                    out.writeLong(row.key.lo);
+                    out.writeLong(row.family.id);
+                    out.writeLong(row.expiresAt);
+                    out.writeBoolean(row.used);
+                }
+            }
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // ---------- 키 ----------
+
+    private static Key keyOf(String token) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+        return raw.length == TOKEN_BYTES ? keyOf(raw) : null;
+    }
+
+    private static Key keyOf(byte[] raw) {
+        byte[] d = sha256().digest(raw);
+        ByteBuffer bb = ByteBuffer.wrap(d);
+        return new Key(bb.getLong(), bb.getLong());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private InvalidRefreshTokenException reject(String reason) {
+        rejected.increment();
+        return new InvalidRefreshTokenException(reason);
+    }
+
+    public Stats stats() {
+        return new Stats(active.size(), used.size(), expiryIndex.size(), issued.sum(), rotated.sum(),
+                rejected.sum(), reuseDetected.sum(), purged.sum());
+    }
+
+    private record Key(long hi, long lo) {}
+
+    private record Entry(Family family, long expiresAt) {}
+
+    private record SnapshotRow(Key key, Family family, long expiresAt, boolean used) {}
+
+    /** 로그인 1 회에서 이어지는 토큰 사슬 (역할은 로그인 시점 값) */
+    private static final class Family {
+        final long id;
+        final String username;
+        final List<String> roles;
+        final long expiresAt;      // 회전해도 넘지 못하는 절대 만료
+        volatile Key current;
+        volatile boolean revoked;
+
+        Family(long id, String username, List<String> roles, long expiresAt) {
+            this.id = id;
+            this.username = username;
+            this.roles = roles;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public record Rotation(String username, List<String> roles, String refreshToken) {}
+
+    public record Stats(int active, int used, int expiryBuckets, long issued, long rotated,
+                        long rejected, long reuseDetected, long purged) {}
+}
@@ -0,0 +1,71 @@
+package com.kyy.springbootsecuritydemo.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AppCDS 학습 실행용 워밍업 (./gradlew cdsTrain 이 app.cds.training=true 로 기동)
+ * - 기동 후 로그인/보호 API/401/403 경로를 한 바퀴 호출해 요청 처리 클래스까지 로딩시킨 뒤 정상 종료
+ *   → -XX:ArchiveClassesAtExit 가 종료 시점에 아카이브를 기록
+ */
+@Slf4j
+@Component
+@Order // 다른 러너(초기 사용자 등록 등) 이후
+@ConditionalOnProperty(name = "app.cds.training", havingValue = "true")
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final Pattern TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int ROUNDS = 20;
+
+    private final ConfigurableApplicationContext ctx;
+
+    public CdsTrainingRunner(ConfigurableApplicationContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+        String base = "http://localhost:" + port;
+        HttpClient client = HttpClient.newHttpClient();
+
+        String token = login(client, base); // 로그인은 1 회(시도 한도), 나머지 경로만 반복
+        for (int i = 0; i < ROUNDS; i++) {
+            get(client, base + "/api/public/ping", null);
+            get(client, base + "/api/user/ping", token);
+            get(client, base + "/api/admin/ping", token);     // 403
+            get(client, base + "/api/user/ping", "invalid");  // 401
+        }
+        log.info("CDS training warm-up done ({} rounds), exiting", ROUNDS);
+        System.exit(SpringApplication.exit(ctx, () -> 0));
+    }
+
+    private static String login(HttpClient client, String base) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(URI.create(base + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"user\",\"password\":\"password\"}"))
+                .build();
+        Matcher m = TOKEN.matcher(client.send(req, HttpResponse.BodyHandlers.ofString()).body());
+        return m.find() ? m.group(1) : "invalid";
+    }
+
+    private static void get(HttpClient client, String url, String token) throws Exception {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(url));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        client.send(b.build(), HttpResponse.BodyHandlers.discarding());
+    }
+}
@@ -0,0 +1,97 @@
+package com.kyy.springbootsecuritydemo.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 기동 단계 리포트 (BufferingApplicationStartup)
+ * - app.startup.report=true 이거나 fast-start 프로필이면 main 에서 설치(컨텍스트 생성 전이라 인자/시스템 속성/환경변수만 확인)
+ * - 기동 완료 시 단계 이름별 합계와 가장 느린 빈 생성을 로그로 남기고, /internal/metrics/startup 으로 조회
+ */
+@Slf4j
+public final class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int CAPACITY = 10_000;
+    private static final int TOP = 15;
+    private static volatile Summary last;
+
+    private final BufferingApplicationStartup startup;
+
+    private StartupReport(BufferingApplicationStartup startup) {
+        this.startup = startup;
+    }
+
+    public static void install(SpringApplication app, String[] args) {
+        var env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        boolean fastStart = Arrays.asList(env.getActiveProfiles()).contains("fast-start");
+        if (!env.getProperty("app.startup.report", Boolean.class, fastStart)) return;
+
+        var startup = new BufferingApplicationStartup(CAPACITY);
+        app.setApplicationStartup(startup);
+        app.addListeners(new StartupReport(startup));
+    }
+
+    /** 마지막 기동 리포트 (미설치 시 null) */
+    public static Summary last() {
+        return last;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        StartupTimeline timeline = startup.drainBufferedTimeline();
+        Map<String, long[]> byName = new HashMap<>(); // name -> {count, totalNanos}
+        List<StepTime> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent e : timeline.getEvents()) {
+            StartupStep step = e.getStartupStep();
+            long nanos = e.getDuration().toNanos();
+            long[] agg = byName.computeIfAbsent(step.getName(), k -> new long[2]);
+            agg[0]++;
+            agg[1] += nanos;
+            if ("spring.beans.instantiate".equals(step.getName())) {
+                beans.add(new StepTime(tag(step, "beanName"), 1, nanos / 1_000_000.0));
+            }
+        }
+
+        List<StepTime> steps = new ArrayList<>(byName.size());
+        byName.forEach((name, agg) -> steps.add(new StepTime(name, agg[0], agg[1] / 1_000_000.0)));
+        // 빈 생성 시간은 의존 빈 생성 시간을 포함(중첩)하므로 합계가 아니라 순위 참고용
+        steps.sort(Comparator.comparingDouble(StepTime::totalMs).reversed());
+        beans.sort(Comparator.comparingDouble(StepTime::totalMs).reversed());
+
+        Duration taken = event.getTimeTaken();
+        Summary summary = new Summary(taken != null ? taken.toMillis() : -1, timeline.getEvents().size(),
+                List.copyOf(steps.subList(0, Math.min(TOP, steps.size()))),
+                List.copyOf(beans.subList(0, Math.min(TOP, beans.size()))));
+        last = summary;
+
+        log.info("startup report: ready in {}ms, {} steps recorded", summary.readyMs(), summary.recordedSteps());
+        summary.steps().forEach(s -> log.info("  step  {} x{} = {}ms", s.name(), s.count(), fmt(s.totalMs())));
+        summary.slowestBeans().forEach(s -> log.info("  bean  {} = {}ms", s.name(), fmt(s.totalMs())));
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag t : step.getTags()) {
+            if (key.equals(t.getKey())) return t.getValue();
+        }
+        return "?";
+    }
+
+    private static String fmt(double ms) {
+        return String.format("%.1f", ms);
+    }
+
+    public record StepTime(String name, long count, double totalMs) {}
+
+    public record Summary(long readyMs, int recordedSteps, List<StepTime> steps, List<StepTime> slowestBeans) {}
+}
@@ -2,6 +2,7 @@ package com.kyy.springbootsecuritydemo.work.controller;
 
 import com.kyy.springbootsecuritydemo.work.domain.HelloJsonDto;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,6 +11,7 @@ import java.io.IOException;
 
 @RequestMapping("/api/public")
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class HiController {
 
     @GetMapping("/hi")
@@ -0,0 +1,21 @@
+-- user_roles(@ElementCollection) → users.roles(쉼표 구분) 일회성 이전
+-- 새 버전 기동 "전에" 기존 DB 에 한 번 실행 (ddl-auto: update 는 값을 옮기지 않고, 행이 있으면 NOT NULL 컬럼 추가도 실패함)
+-- H2(MySQL 모드) 기준
+--   MySQL: add column 에서 if not exists 제거, 마지막 alter 는 modify column roles varchar(512) not null
+--   PostgreSQL: group_concat(...) 대신 string_agg(r.role, ',' order by r.role)
+-- user_roles 는 롤백용으로 남겨 두고, 확인 후 마지막 줄로 삭제
+
+alter table users add column if not exists roles varchar(512);
+
+update users u
+set roles = (select group_concat(r.role order by r.role separator ',')
+             from user_roles r
+             where r.user_id = u.id)
+where u.roles is null or u.roles = '';
+
+-- 역할이 하나도 없던 사용자 (기존 매핑에서도 권한 없음) → 빈 문자열
+update users set roles = '' where roles is null;
+
+alter table users alter column roles set not null;
+
+-- drop table user_roles;
@@ -0,0 +1,9 @@
+-- users.id: IDENTITY → users_seq(pooled-lo, allocationSize 50) 전환 후 일회성 재설정
+-- 기존 DB 에서 새 버전을 처음 기동한 "뒤", 사용자 생성/일괄 등록 "전에" 한 번 실행
+-- (ddl-auto: update 는 users_seq 를 1 부터 만들기 때문에 그대로 두면 기존 id 와 충돌함)
+-- pooled-lo 는 시퀀스 값 v 를 받아 v ~ v+49 를 쓰므로 max(id)+1 에서 다시 시작하면 됨
+-- H2(MySQL 모드) 기준
+--   PostgreSQL: select setval('users_seq', (select coalesce(max(id), 0) + 1 from users), false);
+--   MySQL(시퀀스 대신 users_seq 테이블): update users_seq set next_val = (select coalesce(max(id), 0) + 1 from users);
+
+alter sequence users_seq restart with (select coalesce(max(id), 0) + 1 from users);
@@ -0,0 +1,10 @@
+-- fast-start 프로필 스키마 (Hibernate ddl-auto 대신 직접 생성, UserAccount 매핑과 동일하게 유지)
+create sequence if not exists users_seq start with 1 increment by 50;
+
+create table if not exists users (
+    id       bigint       not null primary key,
+    username varchar(64)  not null unique,
+    password varchar(255) not null,
+    enabled  boolean      not null,
+    roles    varchar(512) not null
+);
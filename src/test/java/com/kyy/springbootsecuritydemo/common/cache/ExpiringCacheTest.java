@@ -0,0 +1,52 @@
+package com.kyy.springbootsecuritydemo.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    @Test
+    void entryIsNotReturnedAfterDeadline() throws InterruptedException {
+        var cache = new ExpiringCache<String, String>(10);
+        cache.put("k", "v", System.currentTimeMillis() + 50);
+
+        assertThat(cache.get("k")).isEqualTo("v");
+        Thread.sleep(80);
+        assertThat(cache.get("k")).isNull();
+        assertThat(cache.size()).isZero(); // get 시 즉시 제거
+    }
+
+    @Test
+    void alreadyExpiredEntryIsNotStored() {
+        var cache = new ExpiringCache<String, String>(10);
+        cache.put("k", "v", System.currentTimeMillis() - 1);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void sweepRemovesExpiredEntriesFirst() throws InterruptedException {
+        var cache = new ExpiringCache<Integer, String>(8);
+        long soon = System.currentTimeMillis() + 30;
+        for (int i = 0; i < 8; i++) cache.put(i, "old", soon);
+        Thread.sleep(50);
+
+        cache.put(100, "new", System.currentTimeMillis() + 60_000);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(100)).isEqualTo("new");
+        assertThat(cache.stats().evictions()).isEqualTo(8);
+    }
+
+    @Test
+    void sizeStaysBoundedWhenNothingExpired() {
+        var cache = new ExpiringCache<Integer, String>(16);
+        long later = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "v", later);
+            assertThat(cache.size()).isLessThanOrEqualTo(16);
+        }
+        assertThat(cache.get(999)).isEqualTo("v"); // 마지막 put 은 항상 남음
+    }
+}
@@ -0,0 +1,70 @@
+package com.kyy.springbootsecuritydemo.common.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextTest {
+
+    @AfterEach
+    void unbind() {
+        RequestContext.unbind();
+    }
+
+    @Test
+    void resumeReattachesTheOriginalContextOnAnotherThread() throws Exception {
+        var req = new MockHttpServletRequest();
+        RequestContext opened = RequestContext.open(req);
+        opened.setPrincipal("alice");
+        RequestContext.unbind();
+
+        RequestContext[] resumed = new RequestContext[2];
+        Thread async = new Thread(() -> {
+            resumed[0] = RequestContext.resume(req);
+            resumed[1] = RequestContext.current();
+            RequestContext.unbind();
+        });
+        async.start();
+        async.join();
+
+        assertThat(resumed[0]).isSameAs(opened);
+        assertThat(resumed[1]).isSameAs(opened);
+        assertThat(resumed[0].principal()).isEqualTo("alice");
+        assertThat(resumed[0].startNanos()).isEqualTo(opened.startNanos()); // 경과 시간은 최초 진입 기준
+    }
+
+    @Test
+    void resumeWithoutContextOpensANewOne() {
+        var req = new MockHttpServletRequest();
+        RequestContext ctx = RequestContext.resume(req);
+
+        assertThat(ctx).isNotNull();
+        assertThat(RequestContext.of(req)).isSameAs(ctx);
+    }
+
+    @Test
+    void ofPrefersTheThreadBoundContext() {
+        var first = new MockHttpServletRequest();
+        var second = new MockHttpServletRequest();
+        RequestContext a = RequestContext.open(first);
+        RequestContext.unbind();
+        RequestContext b = RequestContext.open(second);
+
+        assertThat(RequestContext.of(first)).isSameAs(b);
+        RequestContext.unbind();
+        assertThat(RequestContext.of(first)).isSameAs(a);
+        assertThat(RequestContext.current()).isNull();
+    }
+
+    @Test
+    void traceIdsAreTimeOrderedHex() throws InterruptedException {
+        String earlier = TraceIds.next();
+        Thread.sleep(2);
+        String later = TraceIds.next();
+
+        assertThat(earlier).matches("[0-9a-f]{24}");
+        assertThat(earlier.substring(0, 12)).isLessThan(later.substring(0, 12));
+    }
+}
@@ -0,0 +1,67 @@
+package com.kyy.springbootsecuritydemo.common.entrypoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 바이트 템플릿으로 만든 본문이 Jackson 으로 그대로 파싱되고 path 가 원문과 같은지 확인
+ */
+class JsonErrorBodyTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonErrorBody BODY =
+            new JsonErrorBody(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "인증이 필요합니다.");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/users",
+            "/a\"b",
+            "/a\\b\\\"",
+            "/tab\there/nl\nend/\u0000/\u001f/\u007f",
+            "/한글/경로",
+            "/emoji/😀",
+            ""
+    })
+    void renderedBodyRoundTripsThroughJackson(String path) throws Exception {
+        byte[] bytes = BODY.render(path);
+
+        JsonNode node = MAPPER.readTree(bytes);
+        assertThat(node.get("path").asText()).isEqualTo(path);
+        assertThat(node.get("status").asInt()).isEqualTo(401);
+        assertThat(node.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(node.get("code").asText()).isEqualTo("UNAUTHORIZED");
+        assertThat(node.get("message").asText()).isEqualTo("인증이 필요합니다.");
+        // 출력은 비ASCII 를 모두 \\uXXXX 로 쓰는 ASCII 여야 함 (path 부분)
+        String raw = new String(bytes, StandardCharsets.UTF_8);
+        String pathPart = raw.substring(raw.indexOf("\"path\":"));
+        assertThat(pathPart.chars().allMatch(c -> c < 0x80)).isTrue();
+    }
+
+    @Test
+    void nullPathRendersEmpty() throws Exception {
+        JsonNode node = MAPPER.readTree(BODY.render(null));
+        assertThat(node.get("path").asText()).isEmpty();
+    }
+
+    @Test
+    void timestampIsIsoInstant() throws Exception {
+        long before = System.currentTimeMillis();
+        JsonNode node = MAPPER.readTree(BODY.render("/x"));
+        long after = System.currentTimeMillis();
+
+        String ts = node.get("timestamp").asText();
+        Instant parsed = DateTimeFormatter.ISO_INSTANT.parse(ts, Instant::from);
+        assertThat(ts).endsWith("Z");
+        assertThat(parsed.toEpochMilli()).isBetween(before, after);
+    }
+}
@@ -0,0 +1,72 @@
+package com.kyy.springbootsecuritydemo.common.interceptor;
+
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyRegistry;
+import com.kyy.springbootsecuritydemo.common.metrics.LatencyRegistry.RouteLatency;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 핸들러 × 상태 클래스 집계: 예외로 끝난 2xx 는 5xx 로
+ */
+class TraceInterceptorTest {
+
+    private final LatencyRegistry registry = new LatencyRegistry();
+    private final TraceInterceptor interceptor = new TraceInterceptor(registry);
+
+    static class SampleController {
+        public String get() {
+            return "ok";
+        }
+    }
+
+    private HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod("get"));
+    }
+
+    private void request(int status, Exception ex) throws Exception {
+        var req = new MockHttpServletRequest("GET", "/sample");
+        var res = new MockHttpServletResponse();
+        RequestContext.open(req); // TraceFilter 역할
+        try {
+            res.setStatus(status);
+            interceptor.afterCompletion(req, res, handler(), ex);
+        } finally {
+            RequestContext.unbind();
+        }
+    }
+
+    @Test
+    void recordsPerStatusClass() throws Exception {
+        request(200, null);
+        request(200, null);
+        request(404, null);
+
+        assertThat(registry.snapshot())
+                .extracting(RouteLatency::handler, RouteLatency::statusClass, r -> r.latency().count())
+                .containsExactly(
+                        tuple("SampleController#get", "2xx", 2L),
+                        tuple("SampleController#get", "4xx", 1L));
+    }
+
+    @Test
+    void exceptionWithSuccessStatusCountsAsServerError() throws Exception {
+        request(200, new IllegalStateException("boom"));
+        request(400, new IllegalArgumentException("bad")); // 이미 4xx 로 정해진 상태는 유지
+
+        assertThat(registry.snapshot()).extracting(RouteLatency::statusClass).containsExactly("4xx", "5xx");
+    }
+
+    @Test
+    void requestWithoutContextIsNotRecorded() throws Exception {
+        var req = new MockHttpServletRequest("GET", "/sample");
+        interceptor.afterCompletion(req, new MockHttpServletResponse(), handler(), null);
+
+        assertThat(registry.snapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private ILoggingEvent event(Level level, String msg) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, msg, null, null);
+    }
+
+    private BatchingAsyncAppender async(ListAppender<ILoggingEvent> target, int queueSize, int threshold) {
+        target.setContext(context);
+        target.start();
+        var async = new BatchingAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(threshold);
+        async.setNeverBlock(true);
+        async.addAppender(target);
+        async.start();
+        return async;
+    }
+
+    @Test
+    void deliversEveryEventInOrderBeforeStopReturns() {
+        var target = new ListAppender<ILoggingEvent>();
+        var async = async(target, 1024, 0);
+
+        for (int i = 0; i < 500; i++) async.doAppend(event(Level.INFO, "m" + i));
+        async.stop();
+
+        assertThat(target.list).hasSize(500);
+        assertThat(target.list.get(0).getMessage()).isEqualTo("m0");
+        assertThat(target.list.get(499).getMessage()).isEqualTo("m499");
+        assertThat(async.stats().appended()).isEqualTo(500);
+        assertThat(async.stats().dropped()).isZero();
+    }
+
+    @Test
+    void dropsInfoBelowThresholdAndEverythingWhenFull() throws InterruptedException {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var target = new ListAppender<ILoggingEvent>() {
+            @Override
+            protected void append(ILoggingEvent e) {
+                super.append(e);
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS); // 워커를 붙잡아 큐가 차게 함
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        var async = async(target, 10, 5);
+
+        async.doAppend(event(Level.INFO, "held"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 8; i++) async.doAppend(event(Level.INFO, "info" + i)); // 6 개 들어가고 2 개 버림
+        for (int i = 0; i < 5; i++) async.doAppend(event(Level.WARN, "warn" + i)); // 4 개 들어가고 가득 참
+        assertThat(async.stats().queued()).isEqualTo(10);
+        assertThat(async.stats().dropped()).isEqualTo(3);
+
+        release.countDown();
+        async.stop();
+
+        List<String> messages = target.list.stream().map(ILoggingEvent::getMessage).toList();
+        assertThat(messages).hasSize(11).contains("info5", "warn3").doesNotContain("info6", "warn4");
+    }
+}
@@ -0,0 +1,58 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedRendererTest {
+
+    @Test
+    void rendersSmallValuesLikeToString() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", List.of(1, 2));
+        map.put("b", null);
+
+        assertThat(BoundedRenderer.render(map, 100)).isEqualTo("{a=[1, 2], b=null}");
+        assertThat(BoundedRenderer.render(new int[]{1, 2, 3}, 100)).isEqualTo("[1, 2, 3]");
+        assertThat(BoundedRenderer.render(Optional.of("x"), 100)).isEqualTo("Optional[x]");
+        assertThat(BoundedRenderer.render(ResponseEntity.ok("body"), 100)).isEqualTo("200 OK body");
+        assertThat(BoundedRenderer.render(null, 100)).isEqualTo("null");
+    }
+
+    @Test
+    void truncatesAtTheLimit() {
+        assertThat(BoundedRenderer.render("abcdefghij", 4)).isEqualTo("abcd...(truncated)");
+        assertThat(BoundedRenderer.render(List.of("abc", "def"), 6)).isEqualTo("[abc, ...(truncated)");
+        assertThat(BoundedRenderer.render("abcd", 4)).isEqualTo("abcd");
+    }
+
+    @Test
+    void stopsWalkingLargeCollectionsAtTheLimit() {
+        AtomicInteger visited = new AtomicInteger();
+        List<Integer> huge = new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                visited.incrementAndGet();
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+
+        String out = BoundedRenderer.render(huge, 20);
+
+        assertThat(out).isEqualTo("[0, 1, 2, 3, 4, 5, 6...(truncated)");
+        assertThat(visited.get()).isLessThan(20);
+    }
+}
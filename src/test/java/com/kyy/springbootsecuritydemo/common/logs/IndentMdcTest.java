@@ -0,0 +1,72 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndentMdcTest {
+
+    @AfterEach
+    void reset() {
+        IndentMdc.clear();
+        IndentMdc.setMode(IndentMdc.Mode.AUTO);
+    }
+
+    @Test
+    void pushAndPopTrackPathAndIndent() {
+        IndentMdc.setMode(IndentMdc.Mode.ON);
+
+        IndentMdc.push("filter");
+        IndentMdc.push("controller");
+        assertThat(MDC.get("indentStack")).isEqualTo("controller>filter");
+        assertThat(MDC.get("indent")).isEqualTo("│  ├─ ");
+
+        IndentMdc.pop();
+        assertThat(MDC.get("indentStack")).isEqualTo("filter");
+        assertThat(MDC.get("indent")).isEqualTo("├─ ");
+
+        IndentMdc.pop();
+        IndentMdc.pop(); // 짝 없는 pop 은 루트에 머묾
+        assertThat(MDC.get("indentStack")).isEmpty();
+        assertThat(MDC.get("indent")).isEmpty();
+    }
+
+    @Test
+    void samePathReusesTheSameStrings() {
+        IndentMdc.setMode(IndentMdc.Mode.ON);
+
+        IndentMdc.push("service");
+        IndentMdc.push("repository");
+        String path = MDC.get("indentStack");
+        String indent = MDC.get("indent");
+        IndentMdc.clear();
+
+        IndentMdc.push("service");
+        IndentMdc.push("repository");
+        assertThat(MDC.get("indentStack")).isSameAs(path);
+        assertThat(MDC.get("indent")).isSameAs(indent);
+    }
+
+    @Test
+    void clearDropsThreadStateAndMdc() {
+        IndentMdc.setMode(IndentMdc.Mode.ON);
+        IndentMdc.push("filter");
+
+        IndentMdc.clear();
+        assertThat(MDC.get("indentStack")).isNull();
+
+        IndentMdc.push("controller"); // 이전 push 가 남아 있지 않음
+        assertThat(MDC.get("indentStack")).isEqualTo("controller");
+    }
+
+    @Test
+    void offModeSkipsMdcWork() {
+        IndentMdc.setMode(IndentMdc.Mode.OFF);
+        IndentMdc.push("filter");
+
+        assertThat(MDC.get("indentStack")).isNull();
+        assertThat(MDC.get("indent")).isNull();
+    }
+}
@@ -0,0 +1,69 @@
+package com.kyy.springbootsecuritydemo.common.logs;
+
+import com.kyy.springbootsecuritydemo.common.context.RequestContext;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 컨텍스트 생성/전파와 요청 종료 후 스레드 정리
+ */
+class TraceFilterTest {
+
+    private final TraceFilter filter = new TraceFilter();
+
+    @Test
+    void opensContextForTheChainAndCleansUpAfterwards() throws Exception {
+        var req = new MockHttpServletRequest("GET", "/api/hello");
+        var res = new MockHttpServletResponse();
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        filter.doFilter(req, res, (rq, rs) -> {
+            RequestContext ctx = RequestContext.current();
+            seen.set(ctx);
+            assertThat(MDC.get(TraceFilter.MDC_TRACE_ID)).isEqualTo(ctx.traceId());
+            ctx.setPrincipal("alice");
+        });
+
+        assertThat(seen.get().traceId()).matches("[0-9a-f]{24}");
+        assertThat(res.getHeader(RequestContext.HEADER)).isEqualTo(seen.get().traceId());
+        assertThat(seen.get().principal()).isEqualTo("alice");
+        assertThat(RequestContext.current()).isNull();
+        assertThat(MDC.get(TraceFilter.MDC_TRACE_ID)).isNull();
+        assertThat(RequestContext.of(req)).isSameAs(seen.get()); // 이후 dispatch 는 요청 속성으로 조회
+    }
+
+    @Test
+    void keepsInboundRequestIdUnlessTooLong() throws Exception {
+        var req = new MockHttpServletRequest("GET", "/api/hello");
+        req.addHeader(RequestContext.HEADER, "upstream-id");
+        var res = new MockHttpServletResponse();
+        filter.doFilter(req, res, (rq, rs) -> { });
+        assertThat(res.getHeader(RequestContext.HEADER)).isEqualTo("upstream-id");
+
+        var longReq = new MockHttpServletRequest("GET", "/api/hello");
+        longReq.addHeader(RequestContext.HEADER, "x".repeat(129));
+        var longRes = new MockHttpServletResponse();
+        filter.doFilter(longReq, longRes, (rq, rs) -> { });
+        assertThat(longRes.getHeader(RequestContext.HEADER)).matches("[0-9a-f]{24}");
+    }
+
+    @Test
+    void cleansUpWhenTheChainThrows() {
+        var req = new MockHttpServletRequest("GET", "/api/hello");
+
+        assertThatThrownBy(() -> filter.doFilter(req, new MockHttpServletResponse(), (rq, rs) -> {
+            throw new ServletException("boom");
+        })).isInstanceOf(ServletException.class);
+
+        assertThat(RequestContext.current()).isNull();
+        assertThat(MDC.get(TraceFilter.MDC_TRACE_ID)).isNull();
+    }
+}
@@ -0,0 +1,40 @@
+package com.kyy.springbootsecuritydemo.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        var h = new LatencyHistogram();
+        assertThat(h.percentile(0.99)).isZero();
+        assertThat(h.snapshot().count()).isZero();
+    }
+
+    @Test
+    void percentilesStayWithinBucketError() {
+        var h = new LatencyHistogram();
+        for (long ms = 1; ms <= 1000; ms++) h.record(ms * 1_000_000);
+
+        assertThat(h.count()).isEqualTo(1000);
+        assertThat((double) h.percentile(0.50)).isCloseTo(500e6, within(500e6 * 0.07));
+        assertThat((double) h.percentile(0.99)).isCloseTo(990e6, within(990e6 * 0.07));
+        assertThat(h.percentile(1.0)).isEqualTo(1000L * 1_000_000);
+        assertThat(h.snapshot().maxMs()).isEqualTo(1000.0);
+    }
+
+    @Test
+    void smallAndNegativeValuesAreExact() {
+        var h = new LatencyHistogram();
+        h.record(-5);
+        h.record(3);
+        h.record(7);
+
+        assertThat(h.percentile(0.34)).isEqualTo(3);
+        assertThat(h.percentile(0.01)).isZero();
+        assertThat(h.percentile(1.0)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kyy.springbootsecuritydemo.common.security.authority;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RoleMaskAuthenticationTokenTest {
+
+    private static RoleAuthority user;
+    private static RoleAuthority admin;
+    private static RoleAuthority auditor;
+
+    @BeforeAll
+    static void roles() {
+        user = RoleRegistry.intern("ROLE_TOKEN_USER");
+        admin = RoleRegistry.intern("ROLE_TOKEN_ADMIN");
+        auditor = RoleRegistry.intern("ROLE_TOKEN_AUDITOR");
+    }
+
+    @Test
+    void maskChecks() {
+        assumeTrue(user.index() >= 0 && admin.index() >= 0 && auditor.index() >= 0);
+        RoleMaskAuthenticationToken token = new RoleMaskAuthenticationToken("u", null, user.bit() | admin.bit());
+
+        assertThat(token.hasAny(user.bit())).isTrue();
+        assertThat(token.hasAny(user.bit() | auditor.bit())).isTrue();
+        assertThat(token.hasAny(auditor.bit())).isFalse();
+        assertThat(token.hasAny(0L)).isFalse();
+        assertThat(RoleMaskAuthenticationToken.maskOf(token)).isEqualTo(user.bit() | admin.bit());
+    }
+
+    @Test
+    void ofCollectsBitsAndKeepsUnknownAsOverflow() {
+        assumeTrue(user.index() >= 0 && admin.index() >= 0);
+        SimpleGrantedAuthority plainAdmin = new SimpleGrantedAuthority("ROLE_TOKEN_ADMIN");
+        SimpleGrantedAuthority unknown = new SimpleGrantedAuthority("ROLE_TOKEN_UNREGISTERED");
+
+        RoleMaskAuthenticationToken token = RoleMaskAuthenticationToken.of("u", null, List.of(user, plainAdmin, unknown));
+
+        assertThat(token.roleMask()).isEqualTo(user.bit() | admin.bit());
+        assertThat(token.overflow()).containsExactly(unknown);
+        assertThat(token.getAuthorities()).extracting(a -> a.getAuthority())
+                .containsExactlyInAnyOrder("ROLE_TOKEN_USER", "ROLE_TOKEN_ADMIN", "ROLE_TOKEN_UNREGISTERED");
+    }
+
+    @Test
+    void authoritiesAreSharedCanonicalInstances() {
+        assumeTrue(user.index() >= 0);
+        RoleMaskAuthenticationToken a = new RoleMaskAuthenticationToken("a", null, user.bit());
+        RoleMaskAuthenticationToken b = new RoleMaskAuthenticationToken("b", null, user.bit());
+
+        assertThat(a.getAuthorities().iterator().next()).isSameAs(user);
+        assertThat(b.getAuthorities().iterator().next()).isSameAs(user);
+    }
+}
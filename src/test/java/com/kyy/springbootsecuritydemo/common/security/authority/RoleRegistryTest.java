@@ -0,0 +1,74 @@
+package com.kyy.springbootsecuritydemo.common.security.authority;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 레지스트리는 프로세스 전역이라 테스트마다 고유한 역할 이름을 쓰고,
+ * 비트를 전제로 하는 검사는 레지스트리가 이미 가득 찼으면 건너뜀
+ */
+class RoleRegistryTest {
+
+    @Test
+    void internReturnsSameInstance() {
+        RoleAuthority a = RoleRegistry.intern("ROLE_REG_INTERN");
+        RoleAuthority b = RoleRegistry.intern(new String("ROLE_REG_INTERN"));
+
+        assertThat(b).isSameAs(a);
+        assertThat(RoleRegistry.find("ROLE_REG_INTERN")).isSameAs(a);
+        assertThat(RoleRegistry.find("ROLE_REG_NEVER_INTERNED")).isNull();
+        if (a.index() >= 0) assertThat(RoleRegistry.at(a.index())).isSameAs(a);
+    }
+
+    @Test
+    void maskOfResolvesPlainAuthoritiesByName() {
+        RoleAuthority r = RoleRegistry.intern("ROLE_REG_MASK");
+        assumeTrue(r.index() >= 0);
+
+        assertThat(RoleRegistry.maskOf(new SimpleGrantedAuthority("ROLE_REG_MASK"))).isEqualTo(r.bit());
+        assertThat(RoleRegistry.maskOf(new SimpleGrantedAuthority("ROLE_REG_UNKNOWN"))).isZero();
+        assertThat(RoleRegistry.hasOverflow(List.of(r))).isFalse();
+        assertThat(RoleRegistry.hasOverflow(List.of(r, new SimpleGrantedAuthority("ROLE_REG_UNKNOWN")))).isTrue();
+    }
+
+    @Test
+    void authoritiesOfReturnsCachedListForSameRoleSet() {
+        List<GrantedAuthority> first = RoleRegistry.authoritiesOf(List.of("ROLE_REG_LIST_A", "ROLE_REG_LIST_B"));
+        assumeTrue(!RoleRegistry.hasOverflow(first));
+        List<GrantedAuthority> second = RoleRegistry.authoritiesOf(List.of("ROLE_REG_LIST_B", "ROLE_REG_LIST_A"));
+
+        assertThat(second).isSameAs(first); // 순서와 무관하게 같은 마스크 → 같은 캐시 리스트
+        assertThat(first).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("ROLE_REG_LIST_A", "ROLE_REG_LIST_B");
+        assertThat(first.get(0)).isSameAs(RoleRegistry.find(first.get(0).getAuthority()));
+    }
+
+    @Test
+    void overflowRolesGetIndexMinusOne() {
+        // 남은 비트를 모두 채운 뒤의 역할은 index -1, 등록되지 않음
+        RoleAuthority overflow = null;
+        for (int i = 0; i <= RoleRegistry.CAPACITY && overflow == null; i++) {
+            RoleAuthority r = RoleRegistry.intern("ROLE_REG_FILL_" + i);
+            if (r.index() < 0) overflow = r;
+        }
+
+        assertThat(overflow).isNotNull();
+        assertThat(overflow.bit()).isZero();
+        assertThat(RoleRegistry.find(overflow.getAuthority())).isNull();
+
+        List<GrantedAuthority> list = RoleRegistry.authoritiesOf(List.of(overflow.getAuthority()));
+        assertThat(list).extracting(GrantedAuthority::getAuthority).containsExactly(overflow.getAuthority());
+        assertThat(RoleRegistry.hasOverflow(list)).isTrue();
+
+        RoleMaskAuthenticationToken token = RoleMaskAuthenticationToken.of("u", null, list);
+        assertThat(token.roleMask()).isZero();
+        assertThat(token.overflow()).extracting(GrantedAuthority::getAuthority).containsExactly(overflow.getAuthority());
+        assertThat(token.getAuthorities()).extracting(GrantedAuthority::getAuthority).contains(overflow.getAuthority());
+    }
+}
@@ -0,0 +1,76 @@
+package com.kyy.springbootsecuritydemo.common.security.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwksControllerTest {
+
+    private static final String ETAG = "\"0123abcd\"";
+
+    @Autowired MockMvc mvc;
+
+    @Test
+    void secondRequestWithEtagIsNotModified() throws Exception {
+        MvcResult first = mvc.perform(get(JwksController.PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.keys").isArray())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(JwksController.PATH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mvc.perform(get(JwksController.PATH).header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + etag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get(JwksController.PATH).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            ETAG,
+            "W/" + ETAG,
+            "*",
+            "\"other\", " + ETAG,
+            "\"other\",W/" + ETAG + " ,\"x\"",
+            "\"a,b\", " + ETAG
+    })
+    void matchingIfNoneMatch(String header) {
+        assertThat(JwksController.notModified(header, ETAG)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "\"other\"",
+            "\"0123abc\"",
+            "\"0123abcd",       // 닫는 따옴표 없음
+            "0123abcd",         // 따옴표 없음
+            "\"other\" garbage " + ETAG,
+            "\"0123abcde\""
+    })
+    void nonMatchingIfNoneMatch(String header) {
+        assertThat(JwksController.notModified(header, ETAG)).isFalse();
+    }
+
+    @Test
+    void missingHeaderIsNotAMatch() {
+        assertThat(JwksController.notModified(null, ETAG)).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package com.kyy.springbootsecuritydemo.common.security.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 등록 업로드: 본문 스트리밍, 전용 크기 한도(413), 관리자 전용
+ */
+@SpringBootTest(properties = "app.import.users.max-upload-size=64B")
+@AutoConfigureMockMvc
+class UserImportControllerTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void smallCsvBodyIsAccepted() throws Exception {
+        mvc.perform(post("/api/admin/users/import").contentType("text/csv")
+                        .content("username,password,roles\nimport-ctl,pw,USER\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.source").exists());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void bodyOverTheImportLimitIs413() throws Exception {
+        mvc.perform(post("/api/admin/users/import").contentType("text/csv")
+                        .content("username,password,roles\n" + "x,pw,USER\n".repeat(10)))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.code").value("IMPORT_TOO_LARGE"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void nonAdminIsForbidden() throws Exception {
+        mvc.perform(post("/api/admin/users/import").contentType("text/csv").content("a,b,USER\n"))
+                .andExpect(status().isForbidden());
+    }
+}
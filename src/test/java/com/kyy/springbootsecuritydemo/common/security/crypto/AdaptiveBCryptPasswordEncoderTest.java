@@ -0,0 +1,40 @@
+package com.kyy.springbootsecuritydemo.common.security.crypto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(6);
+
+    @Test
+    void upgradesOnlyWeakerHashes() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+        // 더 높은 cost 로 저장된 해시는 낮추지 않음
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("pw"))).isFalse();
+    }
+
+    @Test
+    void ignoresMalformedHashes() {
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("")).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$x5$abc")).isFalse();
+    }
+
+    @Test
+    void parsesCostFromHash() {
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isEqualTo(10);
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf("$2y$04$")).isEqualTo(4);
+        assertThat(AdaptiveBCryptPasswordEncoder.costOf("{bcrypt}$2a$10$")).isEqualTo(-1);
+    }
+
+    @Test
+    void tunedStrengthStaysWithinBounds() {
+        assertThat(AdaptiveBCryptPasswordEncoder.tuneStrength(0, 4, 8)).isEqualTo(4);
+        assertThat(AdaptiveBCryptPasswordEncoder.tuneStrength(Long.MAX_VALUE / 1_000_000, 4, 5)).isEqualTo(5);
+    }
+}
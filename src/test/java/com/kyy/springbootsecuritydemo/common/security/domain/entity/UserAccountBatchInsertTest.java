@@ -0,0 +1,60 @@
+package com.kyy.springbootsecuritydemo.common.security.domain.entity;
+
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시퀀스(pooled-lo) + hibernate.jdbc.batch_size 로 N 건 저장 시 PreparedStatement 수가 N 에 비례하지 않는지 확인
+ * (IDENTITY 였다면 INSERT 가 건마다 따로 실행되어 N 이상)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserAccountBatchInsertTest {
+
+    private static final int N = 200;
+
+    @Autowired UserAccountRepository repo;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PlatformTransactionManager txManager;
+
+    @Test
+    void saveAllIsBatched() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        List<UserAccount> users = new ArrayList<>(N);
+        for (int i = 0; i < N; i++) {
+            users.add(new UserAccount("batch-user-" + i, "{noop}pw", Set.of("ROLE_USER")));
+        }
+
+        stats.clear();
+        new TransactionTemplate(txManager).executeWithoutResult(s -> repo.saveAll(users));
+
+        assertThat(stats.getEntityInsertCount()).isEqualTo(N);
+        // users 배치(roles 는 같은 행) + 시퀀스 호출(N / 50 + 1) 정도 → 12 개 미만
+        assertThat(stats.getPrepareStatementCount()).isLessThan(12);
+    }
+
+    @Test
+    void authProjectionDoesNotLoadEntity() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        var view = repo.findAuthByUsername("admin").orElseThrow();
+
+        assertThat(view.getRoles()).containsExactly("ROLE_ADMIN");
+        assertThat(view.isEnabled()).isTrue();
+        assertThat(stats.getEntityLoadCount()).isZero();
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.kyy.springbootsecuritydemo.common.security.domain.entity;
+
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import com.kyy.springbootsecuritydemo.common.security.service.BoundedUserCache;
+import com.kyy.springbootsecuritydemo.common.security.service.JpaUserDetailsService;
+import com.kyy.springbootsecuritydemo.common.security.token.InvalidRefreshTokenException;
+import com.kyy.springbootsecuritydemo.common.security.token.RefreshTokenStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 수정/삭제가 커밋되면 캐시된 UserDetails 가 제거되는지,
+ * 비활성화/비밀번호 변경/역할 변경/삭제면 리프레시 토큰이 회수되고 재해시는 회수하지 않는지 확인
+ */
+@SpringBootTest
+class UserAccountCacheListenerTest {
+
+    @Autowired UserAccountRepository repo;
+    @Autowired RefreshTokenStore refreshTokens;
+    @Autowired JpaUserDetailsService userDetailsService;
+    @Autowired BoundedUserCache userCache;
+    @Autowired PlatformTransactionManager txManager;
+
+    private void cachedUser(String username) {
+        repo.save(new UserAccount(username, "{noop}pw", Set.of("ROLE_USER")));
+        userDetailsService.loadUserByUsername(username);
+        assertThat(userCache.getUserFromCache(username)).isNotNull();
+    }
+
+    private String userWithToken(String username) {
+        repo.save(new UserAccount(username, "{noop}pw", Set.of("ROLE_USER")));
+        return refreshTokens.issue(username, List.of("ROLE_USER"));
+    }
+
+    private void update(String username, Consumer<UserAccount> change) {
+        new TransactionTemplate(txManager).executeWithoutResult(s -> change.accept(repo.findByUsername(username).orElseThrow()));
+    }
+
+    private void assertRevoked(String token) {
+        assertThatThrownBy(() -> refreshTokens.rotate(token)).isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void disablingUserEvictsCachedDetails() {
+        cachedUser("listener-cache-disabled");
+        update("listener-cache-disabled", ua -> ua.setEnabled(false));
+
+        assertThat(userCache.getUserFromCache("listener-cache-disabled")).isNull();
+        assertThat(userDetailsService.loadUserByUsername("listener-cache-disabled").isEnabled()).isFalse();
+    }
+
+    @Test
+    void deletingUserEvictsCachedDetails() {
+        cachedUser("listener-cache-deleted");
+        new TransactionTemplate(txManager).executeWithoutResult(s ->
+                repo.delete(repo.findByUsername("listener-cache-deleted").orElseThrow()));
+
+        assertThat(userCache.getUserFromCache("listener-cache-deleted")).isNull();
+    }
+
+    @Test
+    void disablingUserRevokesRefreshTokens() {
+        String token = userWithToken("listener-disabled");
+        update("listener-disabled", ua -> ua.setEnabled(false));
+        assertRevoked(token);
+    }
+
+    @Test
+    void changingPasswordRevokesRefreshTokens() {
+        String token = userWithToken("listener-password");
+        update("listener-password", ua -> ua.setPassword("{noop}new-pw"));
+        assertRevoked(token);
+    }
+
+    @Test
+    void changingRolesRevokesRefreshTokens() {
+        // 리프레시 토큰은 발급 시점 역할로 새 액세스 토큰을 만들므로 역할이 바뀌면 다시 로그인해야 함
+        String token = userWithToken("listener-roles");
+        update("listener-roles", ua -> ua.setRoles(Set.of("ROLE_USER", "ROLE_ADMIN")));
+        assertRevoked(token);
+    }
+
+    @Test
+    void deletingUserRevokesRefreshTokens() {
+        String token = userWithToken("listener-deleted");
+        new TransactionTemplate(txManager).executeWithoutResult(s ->
+                repo.delete(repo.findByUsername("listener-deleted").orElseThrow()));
+        assertRevoked(token);
+    }
+
+    @Test
+    void rehashKeepsRefreshTokens() {
+        String token = userWithToken("listener-rehash");
+        userDetailsService.updatePassword(
+                User.withUsername("listener-rehash").password("{noop}pw").roles("USER").build(), "{noop}pw-rehashed");
+
+        assertThat(repo.findByUsername("listener-rehash").orElseThrow().getPassword()).isEqualTo("{noop}pw-rehashed");
+        assertThat(refreshTokens.rotate(token).username()).isEqualTo("listener-rehash");
+    }
+}
@@ -0,0 +1,65 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import com.kyy.springbootsecuritydemo.common.security.authority.RoleMaskAuthenticationToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로별 필수 역할 검사: 마스크 토큰과 일반 인증 모두 같은 결과
+ */
+class AuthorityFilterTest {
+
+    private final AuthorityFilter filter = new AuthorityFilter("X-Auth-Roles", true, Set.of(),
+            Map.of("/api/admin/**", Set.of("ROLE_ADMIN", "ROLE_FILTER_OPERATOR")));
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private int status(String uri, Authentication auth) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        var res = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", uri), res, new MockFilterChain());
+        return res.getStatus();
+    }
+
+    private static Authentication plain(String... roles) {
+        return new UsernamePasswordAuthenticationToken("u", null,
+                Arrays.stream(roles).map(SimpleGrantedAuthority::new).toList());
+    }
+
+    @Test
+    void anyRequiredRoleIsEnough() throws Exception {
+        assertThat(status("/api/admin/users", RoleMaskAuthenticationToken.of("u", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))))).isEqualTo(200);
+        assertThat(status("/api/admin/users", plain("ROLE_FILTER_OPERATOR"))).isEqualTo(200);
+    }
+
+    @Test
+    void missingRoleIsForbidden() throws Exception {
+        assertThat(status("/api/admin/users", RoleMaskAuthenticationToken.of("u", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))))).isEqualTo(403);
+        assertThat(status("/api/admin/users", plain("ROLE_USER"))).isEqualTo(403);
+        assertThat(status("/api/admin/users", null)).isEqualTo(403);
+    }
+
+    @Test
+    void pathsWithoutRulesPassThrough() throws Exception {
+        assertThat(status("/api/hello", null)).isEqualTo(200);
+    }
+}
@@ -0,0 +1,159 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import com.kyy.springbootsecuritydemo.common.security.filter.JwtAuthenticationFilter.PrincipalMode;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모드별 principal 구성: DB 조회 여부, enabled 확인, roles 클레임이 없거나 잘못된 토큰, 회수된 토큰
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+
+    private final JwtTokenProvider jwt = new JwtTokenProvider(SECRET, 15, "test", 0, 0);
+    private final UserAccountRepository repo = mock(UserAccountRepository.class);
+    private final RevocationList revocations = new RevocationList(1 << 16);
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final UserDetailsService uds = username -> {
+        lookups.incrementAndGet();
+        if (!"alice".equals(username)) throw new UsernameNotFoundException(username);
+        return User.withUsername("alice").password("{noop}pw").roles("DB").build();
+    };
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void dbModeLoadsUserButKeepsTokenRoles() throws Exception {
+        Authentication auth = run(PrincipalMode.DB, bearer(aliceToken()));
+
+        assertThat(auth).isNotNull();
+        assertThat(auth.getName()).isEqualTo("alice");
+        assertThat(roles(auth)).containsExactly("ROLE_USER");
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void statelessModeNeverTouchesTheDatabase() throws Exception {
+        Authentication auth = run(PrincipalMode.STATELESS, bearer(aliceToken()));
+
+        assertThat(auth.getName()).isEqualTo("alice");
+        assertThat(roles(auth)).containsExactly("ROLE_USER");
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void validatedModeChecksOnlyTheEnabledFlag() throws Exception {
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.of(true));
+        assertThat(run(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNotNull();
+
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.of(false));
+        assertThat(run(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNull();
+
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.empty());
+        assertThat(run(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void tokenWithoutRolesFallsBackToTheDatabase() throws Exception {
+        String token = signed("alice", null);
+
+        Authentication auth = run(PrincipalMode.STATELESS, bearer(token));
+
+        assertThat(roles(auth)).containsExactly("ROLE_DB");
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void rolesClaimThatIsNotAStringListIsRejected() throws Exception {
+        assertThat(run(PrincipalMode.STATELESS, bearer(signed("alice", List.of(1, 2))))).isNull();
+        assertThat(run(PrincipalMode.STATELESS, bearer(signed("alice", "ROLE_ADMIN")))).isNull();
+    }
+
+    @Test
+    void invalidOrMissingTokenLeavesTheRequestAnonymous() throws Exception {
+        assertThat(run(PrincipalMode.DB, bearer("not-a-jwt"))).isNull();
+        assertThat(run(PrincipalMode.DB, "Basic YWxpY2U6cHc=")).isNull();
+        assertThat(run(PrincipalMode.DB, null)).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void revokedTokenLeavesTheRequestAnonymous() throws Exception {
+        String token = aliceToken();
+        String other = aliceToken();
+        revocations.revoke(jwt.parse(token).getBody());
+
+        assertThat(run(PrincipalMode.STATELESS, bearer(token))).isNull();
+        assertThat(run(PrincipalMode.STATELESS, bearer(other))).isNotNull(); // jti 가 달라 영향 없음
+    }
+
+    @Test
+    void validatedModeRequiresRepository() {
+        assertThatThrownBy(() -> new JwtAuthenticationFilter(jwt, uds, null, PrincipalMode.VALIDATED, revocations))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Authentication run(PrincipalMode mode, String authorization) throws Exception {
+        SecurityContextHolder.clearContext();
+        var req = new MockHttpServletRequest("GET", "/api/hello");
+        if (authorization != null) req.addHeader("Authorization", authorization);
+        var chain = new MockFilterChain();
+
+        new JwtAuthenticationFilter(jwt, uds, repo, mode, revocations).doFilter(req, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull(); // 실패해도 체인은 계속
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String aliceToken() {
+        return jwt.generate(User.withUsername("alice").password("pw").roles("USER").build());
+    }
+
+    private static String signed(String subject, Object roles) {
+        var builder = Jwts.builder()
+                .setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (roles != null) builder.claim("roles", roles);
+        return builder.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+
+    private static List<String> roles(Authentication auth) {
+        return auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.kyy.springbootsecuritydemo.common.security.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트라이로 후보를 줄인 PathRuleMatcher 결과가 모든 규칙을 AntPathMatcher 로 훑은 결과와 같은지 비교
+ * - AuthorityFilter 는 매칭된 규칙을 모두 요구하므로 순서가 아닌 집합으로 비교
+ */
+class PathRuleMatcherTest {
+
+    /** requireOnPaths 로 쓰일 법한 규칙: 값 = 패턴 자신 */
+    private static final Map<String, String> RULES = new LinkedHashMap<>();
+    static {
+        for (String p : List.of(
+                "/**",
+                "/api/**",
+                "/api/admin/**",
+                "/api/admin/users",
+                "/api/admin/users/",
+                "/api/admin/*/audit",
+                "/api/users/*",
+                "/api/users/{id}/roles",
+                "/api/*/reports/**",
+                "/api/v?/items",
+                "/internal/metrics/*",
+                "/static/**/*.js",
+                "/exact"
+        )) RULES.put(p, p);
+    }
+
+    private static final AntPathMatcher ANT = new AntPathMatcher();
+    private final PathRuleMatcher<String> matcher = new PathRuleMatcher<>(RULES, 64);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/", "", "/exact", "/exact/", "/exactly",
+            "/api", "/api/", "/api/admin", "/api/admin/", "/api/admin/users", "/api/admin/users/",
+            "/api/admin/users/1", "/api/admin/x/audit", "/api/admin/x/y/audit",
+            "/api/users", "/api/users/", "/api/users/7", "/api/users/7/", "/api/users/7/roles",
+            "/api/sales/reports", "/api/sales/reports/2024/q1", "/api/reports",
+            "/api/v1/items", "/api/v10/items",
+            "/internal/metrics/latency", "/internal/metrics", "/internal/metrics/a/b",
+            "/static/app.js", "/static/a/b/app.js", "/static/a/b/app.css",
+            "//api//admin", "/API/admin", "/other"
+    })
+    void matchesSameRulesAsAntPathMatcher(String uri) {
+        List<String> expected = new ArrayList<>();
+        RULES.forEach((pattern, value) -> {
+            if (ANT.match(pattern, uri)) expected.add(value);
+        });
+
+        assertThat(matcher.match(uri)).containsExactlyInAnyOrderElementsOf(expected);
+        // 두 번째 조회는 URI 캐시에서 나와도 결과가 같아야 함
+        assertThat(matcher.match(uri)).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void specificAndGeneralRulesBothApply() {
+        // 더 구체적인 규칙이 일반 규칙을 가리지 않음(AuthorityFilter 는 매칭된 요구를 모두 검사)
+        assertThat(matcher.match("/api/admin/users"))
+                .containsExactlyInAnyOrder("/**", "/api/**", "/api/admin/**", "/api/admin/users");
+    }
+
+    @Test
+    void emptyRulesMatchNothing() {
+        PathRuleMatcher<String> none = new PathRuleMatcher<>(Map.of(), 16);
+        assertThat(none.isEmpty()).isTrue();
+        assertThat(none.match("/api/admin")).isEmpty();
+    }
+
+    @Test
+    void cacheOverflowKeepsResultsCorrect() {
+        PathRuleMatcher<String> small = new PathRuleMatcher<>(RULES, 4);
+        for (int i = 0; i < 100; i++) {
+            assertThat(small.match("/api/users/" + i)).containsExactlyInAnyOrder("/**", "/api/**", "/api/users/*");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import com.kyy.springbootsecuritydemo.common.security.domain.entity.UserAccount;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 에 실제로 일괄 등록: 해시/그대로 저장/invalid/중복 집계 확인
+ */
+@SpringBootTest(properties = "app.import.users.batch-size=2")
+class UserImportServiceTest {
+
+    @Autowired UserImportService importService;
+    @Autowired UserAccountRepository repo;
+    @Autowired PasswordEncoder encoder;
+
+    @Test
+    void importsCsvIntoH2() throws Exception {
+        String preHashed = encoder.encode("pw3");
+        String csv = String.join("\n",
+                "username,password,roles,enabled",
+                "imp-a,pw1",
+                "imp-b,\"p,w\"\"2\",ADMIN|USER,false",
+                "imp-c," + preHashed,
+                "imp-d,{noop}pw",
+                "imp-e,pw,USER,true,extra",
+                "imp-a,dup") + "\n";
+
+        ImportResult r = importService.importStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, "test.csv");
+
+        assertThat(r.error()).isNull();
+        assertThat(r.running()).isFalse();
+        assertThat(r.read()).isEqualTo(4);
+        assertThat(r.imported()).isEqualTo(3);
+        assertThat(r.skipped()).isEqualTo(1);
+        assertThat(r.invalid()).isEqualTo(2);
+
+        UserAccount a = repo.findByUsername("imp-a").orElseThrow();
+        assertThat(a.getPassword()).startsWith("{bcrypt}");
+        assertThat(encoder.matches("pw1", a.getPassword())).isTrue();
+        assertThat(a.getRoles()).containsExactly("ROLE_USER");
+
+        UserAccount b = repo.findByUsername("imp-b").orElseThrow();
+        assertThat(encoder.matches("p,w\"2", b.getPassword())).isTrue();
+        assertThat(b.getRoles()).containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_USER");
+        assertThat(b.isEnabled()).isFalse();
+
+        assertThat(repo.findByUsername("imp-c").orElseThrow().getPassword()).isEqualTo(preHashed);
+        assertThat(repo.findByUsername("imp-d")).isEmpty();
+        assertThat(repo.findByUsername("imp-e")).isEmpty();
+
+        // 재실행: 전부 이미 존재 → 건너뜀
+        ImportResult again = importService.importStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV, "test.csv");
+        assertThat(again.imported()).isZero();
+        assertThat(again.skipped()).isEqualTo(4);
+    }
+}
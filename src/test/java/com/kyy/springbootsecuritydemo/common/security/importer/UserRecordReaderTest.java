@@ -0,0 +1,141 @@
+package com.kyy.springbootsecuritydemo.common.security.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserRecordReaderTest {
+
+    private static final String BCRYPT = "{bcrypt}$2a$10$" + "a".repeat(53);
+
+    private static List<UserRecord> read(ImportFormat format, String content, long expectedInvalid) throws IOException {
+        var reader = new UserRecordReader(new BufferedReader(new StringReader(content)), format, new ObjectMapper());
+        List<UserRecord> out = reader.next(100);
+        assertThat(reader.invalid()).isEqualTo(expectedInvalid);
+        assertThat(reader.next(100)).isEmpty();
+        return out;
+    }
+
+    // ---- CSV ----
+
+    @Test
+    void csvDefaultsAndHeader() throws IOException {
+        List<UserRecord> users = read(ImportFormat.CSV, """
+                username,password,roles,enabled
+                alice,pw1
+                bob,pw2,ADMIN|ROLE_USER,false
+
+                carol,pw3,,
+                """, 0);
+
+        assertThat(users).extracting(UserRecord::username).containsExactly("alice", "bob", "carol");
+        assertThat(users.get(0).roles()).containsExactly("ROLE_USER");
+        assertThat(users.get(0).enabled()).isTrue();
+        assertThat(users.get(1).roles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(users.get(1).enabled()).isFalse();
+        assertThat(users.get(2).roles()).containsExactly("ROLE_USER");
+        assertThat(users.get(2).enabled()).isTrue();
+    }
+
+    @Test
+    void csvQuotedFieldsKeepCommasAndQuotes() throws IOException {
+        List<UserRecord> users = read(ImportFormat.CSV, """
+                dave,"p,w""x",USER,true
+                "erin","{not-an-id pw}"
+                """, 0);
+
+        assertThat(users.get(0).password()).isEqualTo("p,w\"x");
+        assertThat(users.get(0).roles()).containsExactly("ROLE_USER");
+        assertThat(users.get(1).username()).isEqualTo("erin");
+        assertThat(users.get(1).password()).isEqualTo("{not-an-id pw}");
+    }
+
+    @Test
+    void csvRejectsMalformedAndExtraFields() throws IOException {
+        List<UserRecord> users = read(ImportFormat.CSV, """
+                ok,pw
+                onlyname
+                extra,pw,USER,true,surprise
+                unquoted,p"w
+                "unterminated,pw
+                "trailing"x,pw
+                ,pw
+                nopw,
+                """, 7);
+
+        assertThat(users).extracting(UserRecord::username).containsExactly("ok");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{noop}pw", "{sha256}abc", "{bcrypt}not-a-hash", "{bcrypt}$2a$10$short"})
+    void csvRejectsUnsupportedEncodedPasswords(String password) throws IOException {
+        List<UserRecord> users = read(ImportFormat.CSV, "u," + password + "\n", 1);
+        assertThat(users).isEmpty();
+    }
+
+    @Test
+    void wellFormedBcryptIsPreHashed() throws IOException {
+        List<UserRecord> users = read(ImportFormat.CSV, "u," + BCRYPT + "\n", 0);
+        assertThat(users.get(0).preHashed()).isTrue();
+        assertThat(new UserRecord("u", "plain", Set.of(), true).preHashed()).isFalse();
+    }
+
+    @Test
+    void splitCsvEdgeCases() {
+        assertThat(UserRecordReader.splitCsv("a,b,")).containsExactly("a", "b", "");
+        assertThat(UserRecordReader.splitCsv("\"\",b")).containsExactly("", "b");
+        assertThat(UserRecordReader.splitCsv("\"a\"\"\",\"b,c\"")).containsExactly("a\"", "b,c");
+        assertThatThrownBy(() -> UserRecordReader.splitCsv("a,b,c,d,e")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ---- NDJSON ----
+
+    @Test
+    void ndjsonRecords() throws IOException {
+        List<UserRecord> users = read(ImportFormat.NDJSON, """
+                {"username":"frank","password":"p}{w","roles":["ADMIN"],"enabled":false}
+                {"username":" grace ","password":"pw","roles":"USER|AUDITOR"}
+                """, 0);
+
+        assertThat(users.get(0).password()).isEqualTo("p}{w");
+        assertThat(users.get(0).roles()).containsExactly("ROLE_ADMIN");
+        assertThat(users.get(0).enabled()).isFalse();
+        assertThat(users.get(1).username()).isEqualTo("grace");
+        assertThat(users.get(1).roles()).containsExactly("ROLE_USER", "ROLE_AUDITOR");
+        assertThat(users.get(1).enabled()).isTrue();
+    }
+
+    @Test
+    void ndjsonRejectsMalformedLines() throws IOException {
+        List<UserRecord> users = read(ImportFormat.NDJSON, """
+                {"username":"ok","password":"pw"}
+                {"username":"broken","password":
+                {"username":"a","password":"pw"}{"username":"b","password":"pw"}
+                ["not","an","object"]
+                {"username":"nopw"}
+                {"username":"noop","password":"{noop}pw"}
+                """, 5);
+
+        assertThat(users).extracting(UserRecord::username).containsExactly("ok");
+    }
+
+    @Test
+    void chunksRespectLimit() throws IOException {
+        var reader = new UserRecordReader(new BufferedReader(new StringReader("a,1\nb,2\nc,3\n")),
+                ImportFormat.CSV, new ObjectMapper());
+
+        assertThat(reader.next(2)).hasSize(2);
+        assertThat(reader.next(2)).extracting(UserRecord::username).containsExactly("c");
+        assertThat(reader.next(2)).isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksDocumentTest {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    void hmacKeysNeverAppear() throws Exception {
+        // ES256 전환 직후: default(HMAC) 키와 생성된 EC 키가 함께 검증 목록에 있음
+        JwtKeyRing ring = JwtKeyRing.generated(SECRET, SignatureAlgorithm.ES256, 15);
+        assertThat(ring.keys()).extracting(JwtKeyRing.KeyInfo::alg).contains("HS256", "ES256");
+
+        JsonNode keys = MAPPER.readTree(new JwksDocument(ring, MAPPER).current().body()).get("keys");
+
+        assertThat(keys).hasSize(1);
+        JsonNode jwk = keys.get(0);
+        assertThat(jwk.get("kty").asText()).isEqualTo("EC");
+        assertThat(jwk.get("crv").asText()).isEqualTo("P-256");
+        assertThat(jwk.get("kid").asText()).isEqualTo(ring.active().kid());
+        assertThat(jwk.has("k")).isFalse();  // 대칭키 값
+        assertThat(jwk.has("d")).isFalse();  // 개인키 값
+        for (JsonNode k : keys) assertThat(k.get("alg").asText()).doesNotStartWith("HS");
+    }
+
+    @Test
+    void hmacOnlyRingPublishesEmptySet() throws Exception {
+        JwtKeyRing ring = JwtKeyRing.single(SECRET, 15);
+        JwksDocument doc = new JwksDocument(ring, MAPPER);
+
+        assertThat(MAPPER.readTree(doc.current().body()).get("keys")).isEmpty();
+        assertThat(doc.current()).isSameAs(doc.current()); // 키 구성이 같으면 같은 렌더링 재사용
+    }
+}
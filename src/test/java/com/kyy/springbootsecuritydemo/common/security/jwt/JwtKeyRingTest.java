@@ -0,0 +1,196 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임시 키 파일로 활성화 전 검증, overlap 경계, 깨진 파일, 폐기 시 캐시 비우기 확인
+ * - refresh(now) 에 시각을 직접 넣어 기다리지 않음
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+    private static final long EXPIRATION_MINUTES = 15;
+    private static final long OVERLAP = TimeUnit.MINUTES.toMillis(EXPIRATION_MINUTES + 5); // overlap-minutes 기본값
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir Path dir;
+    private Path file;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("jwt-keys.json");
+        now = System.currentTimeMillis();
+    }
+
+    private static String newSecret() {
+        return Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+    }
+
+    private static JwtKeyRing.KeyFile.Entry hmac(String kid, String secret, long activatesAt) {
+        return new JwtKeyRing.KeyFile.Entry(kid, "HS256", secret, null, null, activatesAt);
+    }
+
+    private void writeKeys(JwtKeyRing.KeyFile.Entry... entries) throws IOException {
+        MAPPER.writeValue(file.toFile(), new JwtKeyRing.KeyFile(List.of(entries)));
+        touch();
+    }
+
+    /** 같은 밀리초 안의 재작성도 변경으로 보이도록 수정 시각을 앞으로 */
+    private void touch() throws IOException {
+        FileTime prev = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(prev.toMillis() + 1_000 + System.nanoTime() % 1_000));
+    }
+
+    private JwtKeyRing ring() {
+        return new JwtKeyRing(SECRET, EXPIRATION_MINUTES, SignatureAlgorithm.HS256, file.toString(), 0, 0, 30, false, MAPPER);
+    }
+
+    private static String sign(String kid, String secret) {
+        return Jwts.builder().setHeaderParam("kid", kid).setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static JwtParser parser(JwtKeyRing ring) {
+        return Jwts.parserBuilder().setSigningKeyResolver(ring.resolver()).build();
+    }
+
+    @Test
+    void pendingKeyVerifiesBeforeItActivates() throws IOException {
+        String oldSecret = newSecret(), newSecret = newSecret();
+        writeKeys(hmac("k1", oldSecret, now - TimeUnit.HOURS.toMillis(2)),
+                  hmac("k2", newSecret, now + TimeUnit.MINUTES.toMillis(10)));
+        JwtKeyRing ring = ring();
+
+        assertThat(ring.active().kid()).isEqualTo("k1"); // 서명은 아직 k1
+        // 다른 노드가 먼저 k2 로 서명해도 검증 가능
+        assertThat(parser(ring).parseClaimsJws(sign("k2", newSecret)).getBody().getSubject()).isEqualTo("user");
+
+        ring.refresh(now + TimeUnit.MINUTES.toMillis(10));
+        assertThat(ring.active().kid()).isEqualTo("k2");
+    }
+
+    @Test
+    void oldKeyVerifiesUntilActivationPlusOverlap() throws IOException {
+        String oldSecret = newSecret(), newSecret = newSecret();
+        long switchAt = now - TimeUnit.MINUTES.toMillis(1);
+        writeKeys(hmac("k1", oldSecret, now - TimeUnit.HOURS.toMillis(2)), hmac("k2", newSecret, switchAt));
+        JwtKeyRing ring = ring();
+        String oldToken = sign("k1", oldSecret);
+
+        assertThat(ring.active().kid()).isEqualTo("k2");
+        ring.refresh(switchAt + OVERLAP - 1);
+        assertThat(parser(ring).parseClaimsJws(oldToken).getBody().getSubject()).isEqualTo("user");
+        assertThat(ring.keys()).extracting(JwtKeyRing.KeyInfo::kid).contains("k1", "k2");
+
+        ring.refresh(switchAt + OVERLAP);
+        assertThat(ring.keys()).extracting(JwtKeyRing.KeyInfo::kid).containsExactly("k2");
+        assertThatThrownBy(() -> parser(ring).parseClaimsJws(oldToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void corruptFileKeepsPreviousKeys() throws IOException {
+        String secret = newSecret();
+        writeKeys(hmac("k1", secret, now - TimeUnit.HOURS.toMillis(1)));
+        JwtKeyRing ring = ring();
+        long version = ring.version();
+
+        Files.writeString(file, "{\"keys\":[{\"kid\":\"broken\",\"secret\":\"not base64!");
+        touch();
+        ring.refresh(now);
+
+        assertThat(ring.active().kid()).isEqualTo("k1");
+        assertThat(ring.version()).isEqualTo(version);
+        assertThat(parser(ring).parseClaimsJws(sign("k1", secret)).getBody().getSubject()).isEqualTo("user");
+
+        // 잘못된 키 값(짧은 HMAC 비밀)도 파일 전체를 무시
+        writeKeys(hmac("k1", secret, now - TimeUnit.HOURS.toMillis(1)), hmac("short", "AAAA", now));
+        ring.refresh(now);
+        assertThat(ring.keys()).extracting(JwtKeyRing.KeyInfo::kid).doesNotContain("short");
+        assertThat(ring.active().kid()).isEqualTo("k1");
+    }
+
+    @Test
+    void retirementClearsVerifiedTokenCache() throws IOException {
+        String oldSecret = newSecret(), newSecret = newSecret();
+        long switchAt = now + TimeUnit.MINUTES.toMillis(1);
+        writeKeys(hmac("k1", oldSecret, now - TimeUnit.HOURS.toMillis(2)), hmac("k2", newSecret, switchAt));
+        JwtKeyRing ring = ring();
+        JwtTokenProvider provider = new JwtTokenProvider(ring, EXPIRATION_MINUTES, "test", 100, 300);
+
+        String token = provider.generate("user", List.of("ROLE_USER"));
+        provider.parse(token);
+        assertThat(provider.cacheStats().size()).isEqualTo(1);
+
+        ring.refresh(switchAt); // k2 활성화, k1 은 overlap 동안 유지 → 캐시 유지
+        assertThat(provider.cacheStats().size()).isEqualTo(1);
+
+        ring.refresh(switchAt + OVERLAP); // k1 폐기 → 캐시 비움
+        assertThat(provider.cacheStats().size()).isZero();
+        assertThatThrownBy(() -> provider.parse(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void asymmetricAlgorithmWithoutKeyFileFailsUnlessEphemeralIsAllowed() {
+        assertThatThrownBy(() -> new JwtKeyRing(SECRET, EXPIRATION_MINUTES, SignatureAlgorithm.ES256, "", 0, 0, 30, false, MAPPER))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.jwt.keys.file");
+
+        assertThat(new JwtKeyRing(SECRET, EXPIRATION_MINUTES, SignatureAlgorithm.ES256, "", 0, 0, 30, true, MAPPER)
+                .active().algorithm()).isEqualTo(SignatureAlgorithm.ES256);
+    }
+
+    @Test
+    void asymmetricKeyIsPersistedToTheKeyFile() throws IOException {
+        JwtKeyRing first = new JwtKeyRing(SECRET, EXPIRATION_MINUTES, SignatureAlgorithm.ES256, file.toString(), 0, 0, 30, false, MAPPER);
+        JwtKeyRing second = new JwtKeyRing(SECRET, EXPIRATION_MINUTES, SignatureAlgorithm.ES256, file.toString(), 0, 0, 30, false, MAPPER);
+
+        // 두 번째 노드(또는 재시작)는 파일의 키를 그대로 사용
+        assertThat(second.active().kid()).isEqualTo(first.active().kid());
+    }
+
+    @Test
+    void hs256TokenStillVerifiesRightAfterSwitchingToEs256() {
+        String legacy = new JwtTokenProvider(SECRET, EXPIRATION_MINUTES, "test", 0, 0)
+                .generate("user", List.of("ROLE_USER"));
+
+        JwtKeyRing es256 = JwtKeyRing.generated(SECRET, SignatureAlgorithm.ES256, EXPIRATION_MINUTES);
+        JwtTokenProvider provider = new JwtTokenProvider(es256, EXPIRATION_MINUTES, "test", 0, 0);
+
+        assertThat(es256.active().algorithm()).isEqualTo(SignatureAlgorithm.ES256);
+        assertThat(es256.keys()).extracting(JwtKeyRing.KeyInfo::kid).contains(JwtKeyRing.DEFAULT_KID);
+        assertThat(provider.parse(legacy).getBody().getSubject()).isEqualTo("user");
+        assertThat(provider.parse(provider.generate("user", List.of("ROLE_USER"))).getHeader().getAlgorithm())
+                .isEqualTo("ES256");
+
+        // default 키는 새 키 활성화 + overlap 까지만 유지
+        long activatedAt = es256.active().activatesAt();
+        es256.refresh(activatedAt + OVERLAP - 1);
+        assertThat(provider.parse(legacy).getBody().getSubject()).isEqualTo("user");
+        es256.refresh(activatedAt + OVERLAP);
+        assertThatThrownBy(() -> provider.parse(legacy)).isInstanceOf(JwtException.class);
+    }
+}
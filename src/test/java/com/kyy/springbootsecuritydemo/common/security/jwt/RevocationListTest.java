@@ -0,0 +1,98 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationListTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private static Claims claims(String jti, long expMillis) {
+        Claims c = Jwts.claims();
+        c.setId(jti);
+        c.setExpiration(new Date(expMillis));
+        return c;
+    }
+
+    @Test
+    void revokeThenIsRevoked() {
+        RevocationList list = new RevocationList(1 << 16);
+        String jti = TokenIds.newId();
+        String other = TokenIds.newId();
+        long exp = System.currentTimeMillis() + HOUR;
+
+        assertThat(list.isRevoked(jti)).isFalse();
+        list.revoke(claims(jti, exp));
+
+        assertThat(list.isRevoked(jti)).isTrue();
+        assertThat(list.isRevoked(claims(jti, exp))).isTrue();
+        assertThat(list.isRevoked(other)).isFalse();
+        assertThat(list.stats().size()).isEqualTo(1);
+
+        list.revoke(jti, exp); // 중복 회수는 무시
+        assertThat(list.stats().revoked()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresExpiredAndForeignIds() {
+        RevocationList list = new RevocationList(1 << 16);
+        list.revoke(TokenIds.newId(), System.currentTimeMillis() - 1);
+        list.revoke("not-a-token-id", System.currentTimeMillis() + HOUR);
+        list.revoke(claims(null, System.currentTimeMillis() + HOUR));
+
+        assertThat(list.stats().size()).isZero();
+        assertThat(list.isRevoked("not-a-token-id")).isFalse();
+        assertThat(list.isRevoked((String) null)).isFalse();
+    }
+
+    @Test
+    void purgeRemovesEntriesAfterExp() throws Exception {
+        RevocationList list = new RevocationList(1 << 16);
+        String shortLived = TokenIds.newId();
+        String longLived = TokenIds.newId();
+        list.revoke(shortLived, System.currentTimeMillis() + 50);
+        list.revoke(longLived, System.currentTimeMillis() + HOUR);
+        Thread.sleep(100);
+
+        list.purgeExpired();
+
+        assertThat(list.isRevoked(shortLived)).isFalse();
+        assertThat(list.isRevoked(longLived)).isTrue();
+        assertThat(list.stats().size()).isEqualTo(1);
+        assertThat(list.stats().purged()).isEqualTo(1);
+        assertThat(list.stats().rebuilds()).isZero(); // 1024 건 미만이면 재생성 안 함
+    }
+
+    @Test
+    void rebuildKeepsLiveEntries() throws Exception {
+        RevocationList list = new RevocationList(1 << 16);
+        long now = System.currentTimeMillis();
+        List<String> expiring = new ArrayList<>();
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            String jti = TokenIds.newId();
+            list.revoke(jti, now + 50);
+            expiring.add(jti);
+        }
+        for (int i = 0; i < 100; i++) {
+            String jti = TokenIds.newId();
+            list.revoke(jti, now + HOUR);
+            live.add(jti);
+        }
+        Thread.sleep(100);
+
+        list.purgeExpired();
+
+        assertThat(list.stats().rebuilds()).isEqualTo(1);
+        assertThat(list.stats().size()).isEqualTo(live.size());
+        live.forEach(jti -> assertThat(list.isRevoked(jti)).isTrue());
+        expiring.forEach(jti -> assertThat(list.isRevoked(jti)).isFalse());
+    }
+}
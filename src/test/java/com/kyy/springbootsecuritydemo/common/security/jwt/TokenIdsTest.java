@@ -0,0 +1,62 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenIdsTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        long[] values = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x0123456789abcdefL, 0xfedcba9876543210L};
+        for (long hi : values) {
+            for (long lo : values) {
+                String jti = TokenIds.of(hi, lo);
+                assertThat(jti).hasSize(TokenIds.LENGTH);
+                assertThat(TokenIds.isValid(jti)).isTrue();
+                assertThat(TokenIds.hi(jti)).isEqualTo(hi);
+                assertThat(TokenIds.lo(jti)).isEqualTo(lo);
+            }
+        }
+    }
+
+    @Test
+    void newIdsAreValidAndDistinct() {
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String jti = TokenIds.newId();
+            assertThat(TokenIds.isValid(jti)).isTrue();
+            assertThat(TokenIds.of(TokenIds.hi(jti), TokenIds.lo(jti))).isEqualTo(jti);
+            seen.add(jti);
+        }
+        assertThat(seen).hasSize(10_000);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "AAAAAAAAAAAAAAAAAAAAA",     // 21 자
+            "AAAAAAAAAAAAAAAAAAAAAAA",   // 23 자
+            "AAAAAAAAAAA+AAAAAAAAAA",    // 표준 base64 문자
+            "AAAAAAAAAAA/AAAAAAAAAA",
+            "AAAAAAAAAAA=AAAAAAAAAA",
+            "AAAAAAAAAAAéAAAAAAAAAA",    // 비ASCII
+            "QAAAAAAAAAAAAAAAAAAAAA",    // 상위 절반 첫 글자가 64비트를 넘김
+            "AAAAAAAAAAA_AAAAAAAAAA"     // 하위 절반 첫 글자가 64비트를 넘김
+    })
+    void rejectsForeignFormats(String jti) {
+        assertThat(TokenIds.isValid(jti)).isFalse();
+    }
+
+    @Test
+    void rejectsUuid() {
+        assertThat(TokenIds.isValid(UUID.randomUUID().toString())).isFalse();
+    }
+}
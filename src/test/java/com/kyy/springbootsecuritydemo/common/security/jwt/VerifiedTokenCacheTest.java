@@ -0,0 +1,108 @@
+package com.kyy.springbootsecuritydemo.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    private String tokenExpiringIn(long millis) {
+        return Jwts.builder().setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + millis))
+                .signWith(key, SignatureAlgorithm.HS256).compact();
+    }
+
+    @Test
+    void entryExpiresAtMaxTtlWhenTokenLivesLonger() throws InterruptedException {
+        var cache = new VerifiedTokenCache(100, 50);
+        String token = tokenExpiringIn(60_000);
+        cache.put(token, parser.parseClaimsJws(token));
+
+        assertThat(cache.get(token)).isNotNull();
+        Thread.sleep(80);
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    void hitNeverOutlivesTokenExp() throws InterruptedException {
+        var cache = new VerifiedTokenCache(100, 60_000);
+        String token = tokenExpiringIn(1_500); // exp 는 초 단위로 잘림 → 0.5~1.5초 뒤
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        long exp = jws.getBody().getExpiration().getTime();
+        cache.put(token, jws);
+
+        assertThat(cache.get(token)).isSameAs(jws);
+        Thread.sleep(Math.max(0, exp - System.currentTimeMillis()) + 20);
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    void failedParseIsNotCached() {
+        var provider = new JwtTokenProvider(SECRET, 60, "test", 100, 300);
+        String token = provider.generate("user", List.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> provider.parse(tampered)).isInstanceOf(Exception.class);
+        assertThatThrownBy(() -> provider.parse(tampered)).isInstanceOf(Exception.class);
+        assertThat(provider.cacheStats().size()).isZero();
+
+        provider.parse(token);
+        provider.parse(token);
+        assertThat(provider.cacheStats().size()).isEqualTo(1);
+        assertThat(provider.cacheStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentLookupsNeverMixUpKeys() throws Exception {
+        // 다이제스트를 스레드 간 공유하지 않으므로 동시에 계산해도 키가 섞이지 않아야 함
+        var cache = new VerifiedTokenCache(1_000, 60_000);
+        List<String> tokens = new ArrayList<>();
+        List<Jws<Claims>> parsed = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String token = Jwts.builder().setSubject("user-" + i)
+                    .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(key, SignatureAlgorithm.HS256).compact();
+            tokens.add(token);
+            parsed.add(parser.parseClaimsJws(token));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    int wrong = 0;
+                    for (int round = 0; round < 500; round++) {
+                        int i = round % tokens.size();
+                        cache.put(tokens.get(i), parsed.get(i));
+                        if (cache.get(tokens.get(i)) != parsed.get(i)) wrong++;
+                    }
+                    return wrong;
+                }));
+            }
+            for (Future<Integer> r : results) assertThat(r.get()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
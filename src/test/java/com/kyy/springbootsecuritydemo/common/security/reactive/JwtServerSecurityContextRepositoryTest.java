@@ -0,0 +1,131 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import com.kyy.springbootsecuritydemo.common.security.filter.JwtAuthenticationFilter.PrincipalMode;
+import com.kyy.springbootsecuritydemo.common.security.jwt.JwtTokenProvider;
+import com.kyy.springbootsecuritydemo.common.security.jwt.RevocationList;
+import com.kyy.springbootsecuritydemo.common.security.repository.UserAccountRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtAuthenticationFilter 와 같은 규칙: 모드별 조회, roles 클레임 검증, 잘못된/회수된 토큰은 익명
+ */
+class JwtServerSecurityContextRepositoryTest {
+
+    private static final String SECRET = "bXktdmVyeS1sb25nLXN1cGVyLXNlY3JldC1iYXNlNjQtMzJieXRlc2F0bGVhc3Q=";
+
+    private final JwtTokenProvider jwt = new JwtTokenProvider(SECRET, 15, "test", 0, 0);
+    private final UserAccountRepository repo = mock(UserAccountRepository.class);
+    private final RevocationList revocations = new RevocationList(1 << 16);
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ReactiveUserDetailsService users = username -> {
+        lookups.incrementAndGet();
+        if (!"alice".equals(username)) return Mono.empty();
+        return Mono.just(User.withUsername("alice").password("{noop}pw").roles("DB").build());
+    };
+
+    @Test
+    void dbModeLoadsUserButKeepsTokenRoles() {
+        Authentication auth = load(PrincipalMode.DB, bearer(aliceToken()));
+
+        assertThat(auth.getName()).isEqualTo("alice");
+        assertThat(roles(auth)).containsExactly("ROLE_USER");
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void statelessModeNeverLooksUpTheUser() {
+        Authentication auth = load(PrincipalMode.STATELESS, bearer(aliceToken()));
+
+        assertThat(roles(auth)).containsExactly("ROLE_USER");
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void validatedModeDropsDisabledOrMissingUsers() {
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.of(true));
+        assertThat(load(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNotNull();
+
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.of(false));
+        assertThat(load(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNull();
+
+        when(repo.findEnabledByUsername("alice")).thenReturn(Optional.empty());
+        assertThat(load(PrincipalMode.VALIDATED, bearer(aliceToken()))).isNull();
+    }
+
+    @Test
+    void tokenWithoutRolesFallsBackToTheUserService() {
+        Authentication auth = load(PrincipalMode.STATELESS, bearer(signed(null)));
+
+        assertThat(roles(auth)).containsExactly("ROLE_DB");
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void malformedRolesOrTokensStayAnonymous() {
+        assertThat(load(PrincipalMode.STATELESS, bearer(signed(List.of(1, 2))))).isNull();
+        assertThat(load(PrincipalMode.STATELESS, bearer(signed("ROLE_ADMIN")))).isNull();
+        assertThat(load(PrincipalMode.DB, bearer("not-a-jwt"))).isNull();
+        assertThat(load(PrincipalMode.DB, "Basic YWxpY2U6cHc=")).isNull();
+        assertThat(load(PrincipalMode.DB, null)).isNull();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void revokedTokenStaysAnonymous() {
+        String token = aliceToken();
+        revocations.revoke(jwt.parse(token).getBody());
+
+        assertThat(load(PrincipalMode.STATELESS, bearer(token))).isNull();
+        assertThat(load(PrincipalMode.STATELESS, bearer(aliceToken()))).isNotNull();
+    }
+
+    private Authentication load(PrincipalMode mode, String authorization) {
+        var request = MockServerHttpRequest.get("/api/user/ping");
+        if (authorization != null) request.header("Authorization", authorization);
+        SecurityContext ctx = new JwtServerSecurityContextRepository(jwt, users, repo, mode, revocations)
+                .load(MockServerWebExchange.from(request)).block();
+        return ctx != null ? ctx.getAuthentication() : null;
+    }
+
+    private String aliceToken() {
+        return jwt.generate(User.withUsername("alice").password("pw").roles("USER").build());
+    }
+
+    private static String signed(Object roles) {
+        var builder = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (roles != null) builder.claim("roles", roles);
+        return builder.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+
+    private static List<String> roles(Authentication auth) {
+        return auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.kyy.springbootsecuritydemo.common.security.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reactive 모드(WebFlux)로 기동: 로그인 → 토큰으로 보호 경로 접근, 실패 응답은 Servlet 과 같은 코드
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveAuthEndpointsTest {
+
+    @Autowired
+    WebTestClient client;
+
+    @Test
+    void loginIssuesATokenThatOpensProtectedPaths() {
+        Map<?, ?> body = client.post().uri("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", "user", "password", "password"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Map.class).returnResult().getResponseBody();
+
+        assertThat(body).isNotNull();
+        Map<?, ?> data = (Map<?, ?>) body.get("data");
+        String token = (String) data.get("accessToken");
+        assertThat(token).isNotBlank();
+        assertThat(data.get("roles")).isEqualTo(List.of("ROLE_USER"));
+
+        client.get().uri("/api/user/ping").header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("user ok");
+        client.get().uri("/api/admin/ping").header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void wrongPasswordIs401WithTheSharedErrorCode() {
+        client.post().uri("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", "user", "password", "wrong"))
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo("AUTH_FAILED");
+    }
+
+    @Test
+    void missingOrInvalidTokenIs401() {
+        client.get().uri("/api/user/ping").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/api/user/ping").header("Authorization", "Bearer not-a-jwt")
+                .exchange().expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void unreadableLoginBodyIs400() {
+        client.post().uri("/auth/login").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{not json")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("BAD_REQUEST");
+    }
+}
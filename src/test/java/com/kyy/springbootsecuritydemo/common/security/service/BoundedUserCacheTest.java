@@ -0,0 +1,52 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedUserCacheTest {
+
+    private static UserDetails alice() {
+        return User.withUsername("alice").password("{noop}pw").roles("USER").build();
+    }
+
+    @Test
+    void returnsCopiesSoErasedCredentialsDoNotLeakIntoTheCache() {
+        var cache = new BoundedUserCache(10, 60_000);
+        UserDetails original = alice();
+        cache.putUserInCache(original);
+        ((CredentialsContainer) original).eraseCredentials();
+
+        UserDetails first = cache.getUserFromCache("alice");
+        assertThat(first).isNotSameAs(cache.getUserFromCache("alice"));
+        ((CredentialsContainer) first).eraseCredentials(); // ProviderManager 가 인증 후 하는 일
+
+        assertThat(cache.getUserFromCache("alice").getPassword()).isEqualTo("{noop}pw");
+        assertThat(cache.getUserFromCache("alice").getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void entriesExpireAfterTtl() throws InterruptedException {
+        var cache = new BoundedUserCache(10, 30);
+        cache.putUserInCache(alice());
+        assertThat(cache.getUserFromCache("alice")).isNotNull();
+
+        Thread.sleep(60);
+        assertThat(cache.getUserFromCache("alice")).isNull();
+    }
+
+    @Test
+    void removeEvictsAndCountsStats() {
+        var cache = new BoundedUserCache(10, 60_000);
+        cache.putUserInCache(alice());
+        cache.getUserFromCache("alice");
+        cache.removeUserFromCache("alice");
+
+        assertThat(cache.getUserFromCache("alice")).isNull();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+}
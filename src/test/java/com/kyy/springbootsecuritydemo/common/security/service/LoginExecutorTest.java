@@ -0,0 +1,59 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginExecutorTest {
+
+    private final LoginExecutor executor = new LoginExecutor(1, 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsWithoutWaitingWhenTheQueueIsFull() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = executor.submit(() -> "second");
+
+        assertThatThrownBy(() -> executor.submit(() -> "third")).isInstanceOf(LoginBusyException.class);
+        assertThat(executor.stats().queued()).isEqualTo(1);
+        assertThat(executor.stats().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(executor.stats().taskTime().count()).isEqualTo(2);
+    }
+
+    @Test
+    void taskFailureCompletesTheFutureExceptionally() {
+        CompletableFuture<Object> f = executor.submit(() -> { throw new IllegalStateException("boom"); });
+
+        assertThatThrownBy(() -> f.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(executor.stats().taskTime().count()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
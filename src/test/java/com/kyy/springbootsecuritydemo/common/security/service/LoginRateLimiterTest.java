@@ -0,0 +1,114 @@
+package com.kyy.springbootsecuritydemo.common.security.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * GCRA 한도: 시각(µs)을 직접 넘겨 기다리지 않고 버스트/보충/Retry-After 확인
+ * - 사용자 실패 5 회 후 분당 5 회(12 초마다 1 회), IP 시도 30 회 후 분당 60 회
+ */
+class LoginRateLimiterTest {
+
+    private static final long SECOND = 1_000_000L;
+    private static final long T0 = 1_000 * SECOND;
+
+    private final LoginRateLimiter limiter = new LoginRateLimiter(1024, 5, 5, 30, 60);
+
+    private void allowed(String username, String ip, long now) {
+        assertThatCode(() -> limiter.acquire(username, ip, now)).doesNotThrowAnyException();
+    }
+
+    /** 허용된 시도가 인증 실패로 끝난 경우 */
+    private void failed(String username, String ip, long now) {
+        allowed(username, ip, now);
+        limiter.recordFailure(username, now);
+    }
+
+    private long retryAfter(String username, String ip, long now) {
+        Throwable t = catchThrowable(() -> limiter.acquire(username, ip, now));
+        assertThat(t).isInstanceOf(LoginRateLimitedException.class);
+        return ((LoginRateLimitedException) t).retryAfterSeconds();
+    }
+
+    @Test
+    void failuresBurstUpToCapacityThenRejected() {
+        for (int i = 0; i < 5; i++) failed("alice", "10.0.0." + i, T0);
+
+        assertThat(retryAfter("alice", "10.0.0.9", T0)).isEqualTo(12);
+        assertThat(limiter.stats().allowed()).isEqualTo(5);
+        assertThat(limiter.stats().failures()).isEqualTo(5);
+        assertThat(limiter.stats().rejectedByUser()).isEqualTo(1);
+    }
+
+    @Test
+    void attemptsFromOtherIpsThatDoNotFailNeverLockOutTheUser() {
+        // 한도의 몇 배가 되는 시도가 각기 다른 IP 에서 와도 실패가 아니면 사용자명 버킷은 그대로
+        for (int i = 0; i < 200; i++) allowed("zoe", "10.1." + (i / 256) + "." + (i % 256), T0);
+
+        allowed("zoe", "192.0.2.1", T0);
+        assertThat(limiter.stats().rejectedByUser()).isZero();
+    }
+
+    @Test
+    void concurrentFailuresDoNotExtendTheLockout() {
+        for (int i = 0; i < 5; i++) failed("frank", "10.0.4.1", T0);
+        // 확인을 통과한 뒤 늦게 도착한 실패 기록은 이미 한도라 차감되지 않음
+        for (int i = 0; i < 10; i++) limiter.recordFailure("frank", T0);
+
+        allowed("frank", "10.0.4.1", T0 + 12 * SECOND);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 5; i++) failed("bob", "10.0.1.1", T0);
+
+        assertThat(retryAfter("bob", "10.0.1.1", T0 + 11 * SECOND)).isEqualTo(1);
+        failed("bob", "10.0.1.1", T0 + 12 * SECOND);
+        assertThat(retryAfter("bob", "10.0.1.1", T0 + 12 * SECOND)).isEqualTo(12);
+        // 충분히 쉬면 버스트 전체가 다시 찬다(그 이상은 쌓이지 않음)
+        long later = T0 + 10 * 60 * SECOND;
+        for (int i = 0; i < 5; i++) failed("bob", "10.0.1.1", later);
+        assertThat(retryAfter("bob", "10.0.1.1", later)).isEqualTo(12);
+    }
+
+    @Test
+    void retryAfterIsRoundedUpAndRejectionsDoNotConsume() {
+        for (int i = 0; i < 5; i++) failed("carol", "10.0.2.1", T0);
+
+        // 남은 시간 11.5 초 → 12 초
+        assertThat(retryAfter("carol", "10.0.2.1", T0 + SECOND / 2)).isEqualTo(12);
+        for (int i = 0; i < 10; i++) retryAfter("carol", "10.0.2.1", T0 + SECOND);
+        allowed("carol", "10.0.2.1", T0 + 12 * SECOND); // 거절이 다음 허용 시각을 밀지 않음
+    }
+
+    @Test
+    void usernamesAreCaseFolded() {
+        failed("Dave", "10.0.3.1", T0);
+        failed("DAVE", "10.0.3.2", T0);
+        failed("dave", "10.0.3.3", T0);
+        failed("dAvE", "10.0.3.4", T0);
+        failed("davE", "10.0.3.5", T0);
+
+        assertThat(retryAfter("DaVe", "10.0.3.6", T0)).isEqualTo(12);
+    }
+
+    @Test
+    void ipLimitAppliesAcrossUsernamesWithoutFailures() {
+        for (int i = 0; i < 30; i++) allowed("user-" + i, "203.0.113.7", T0);
+
+        assertThat(retryAfter("someone-else", "203.0.113.7", T0)).isEqualTo(1);
+        assertThat(limiter.stats().rejectedByIp()).isEqualTo(1);
+        allowed("someone-else", "203.0.113.8", T0);
+        allowed("someone-else-2", "203.0.113.7", T0 + SECOND);
+    }
+
+    @Test
+    void missingIpOnlyChecksUsername() {
+        for (int i = 0; i < 5; i++) failed("erin", null, T0);
+        assertThatThrownBy(() -> limiter.acquire("erin", null, T0)).isInstanceOf(LoginRateLimitedException.class);
+    }
+}
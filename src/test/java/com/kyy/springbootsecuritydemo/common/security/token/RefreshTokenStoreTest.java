@@ -0,0 +1,155 @@
+package com.kyy.springbootsecuritydemo.common.security.token;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenStoreTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final List<String> ROLES = List.of("ROLE_USER");
+
+    private static RefreshTokenStore store() {
+        return new RefreshTokenStore(HOUR, 2 * HOUR, null);
+    }
+
+    private static void assertRejected(RefreshTokenStore store, String token, String reason) {
+        assertThatThrownBy(() -> store.rotate(token))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessage(reason);
+    }
+
+    @Test
+    void rotationReplacesToken() {
+        RefreshTokenStore store = store();
+        String t1 = store.issue("alice", ROLES);
+
+        RefreshTokenStore.Rotation r = store.rotate(t1);
+
+        assertThat(r.username()).isEqualTo("alice");
+        assertThat(r.roles()).isEqualTo(ROLES);
+        assertThat(r.refreshToken()).isNotEqualTo(t1);
+        assertThat(store.rotate(r.refreshToken()).refreshToken()).isNotNull();
+        assertThat(store.stats().rotated()).isEqualTo(2);
+    }
+
+    @Test
+    void reuseRevokesWholeFamily() {
+        RefreshTokenStore store = store();
+        String t1 = store.issue("alice", ROLES);
+        String t2 = store.rotate(t1).refreshToken();
+        String other = store.issue("alice", ROLES); // 다른 로그인(family)은 영향 없음
+
+        assertRejected(store, t1, "reused");
+        assertRejected(store, t2, "unknown"); // 현재 토큰도 회수됨
+        assertThat(store.stats().reuseDetected()).isEqualTo(1);
+        assertThat(store.rotate(other).refreshToken()).isNotNull();
+    }
+
+    @Test
+    void malformedAndUnknownTokensAreRejected() {
+        RefreshTokenStore store = store();
+        assertRejected(store, "not-base64!", "malformed");
+        assertRejected(store, "AAAA", "malformed");
+        assertRejected(store, "A".repeat(43), "unknown");
+    }
+
+    @Test
+    void revokeUserRevokesAllFamiliesOfThatUser() {
+        RefreshTokenStore store = store();
+        String a1 = store.issue("alice", ROLES);
+        String a2 = store.rotate(store.issue("alice", ROLES)).refreshToken();
+        String b1 = store.issue("bob", ROLES);
+
+        assertThat(store.revokeUser("alice")).isEqualTo(2);
+
+        assertRejected(store, a1, "unknown");
+        assertRejected(store, a2, "unknown");
+        assertThat(store.rotate(b1).username()).isEqualTo("bob");
+        assertThat(store.revokeUser("alice")).isZero();
+    }
+
+    @Test
+    void logoutRevokesFamilyAndUnindexesIt() {
+        RefreshTokenStore store = store();
+        String t1 = store.issue("alice", ROLES);
+
+        store.revoke(t1);
+
+        assertRejected(store, t1, "unknown");
+        assertThat(store.revokeUser("alice")).isZero();
+    }
+
+    @Test
+    void expiredTokensArePurged() throws Exception {
+        RefreshTokenStore store = new RefreshTokenStore(1, 1, null);
+        String t1 = store.issue("alice", ROLES);
+        String t2 = store.issue("bob", ROLES);
+        Thread.sleep(5);
+
+        assertRejected(store, t1, "expired");
+        assertThat(store.stats().active()).isEqualTo(1);
+
+        // 분 단위 버킷 → 지난 버킷이 되도록 2 분 뒤 시각으로 정리
+        store.purgeExpired(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+
+        assertThat(store.stats().active()).isZero();
+        assertThat(store.stats().used()).isZero();
+        assertThat(store.stats().expiryBuckets()).isZero();
+        assertRejected(store, t2, "unknown");
+        assertThat(store.revokeUser("bob")).isZero();
+    }
+
+    @Test
+    void purgeKeepsLiveTokens() {
+        RefreshTokenStore store = store();
+        String t1 = store.issue("alice", ROLES);
+
+        store.purgeExpired(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+
+        assertThat(store.rotate(t1).username()).isEqualTo("alice");
+    }
+
+    @Test
+    void snapshotRoundTrip(@TempDir Path dir) {
+        Path file = dir.resolve("refresh.bin");
+        RefreshTokenStore first = new RefreshTokenStore(HOUR, 2 * HOUR, file);
+        String used = first.issue("alice", List.of("ROLE_USER", "ROLE_ADMIN"));
+        String current = first.rotate(used).refreshToken();
+        String revoked = first.issue("bob", ROLES);
+        first.revoke(revoked);
+        first.snapshot();
+
+        RefreshTokenStore second = new RefreshTokenStore(HOUR, 2 * HOUR, file);
+        second.load();
+
+        assertThat(second.stats().active()).isEqualTo(1);
+        assertRejected(second, revoked, "unknown");
+        RefreshTokenStore.Rotation r = second.rotate(current);
+        assertThat(r.username()).isEqualTo("alice");
+        assertThat(r.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        // 복원된 "사용됨" 기록으로 재사용 감지 → family 회수
+        assertRejected(second, used, "reused");
+        assertRejected(second, r.refreshToken(), "unknown");
+    }
+
+    @Test
+    void restoredFamiliesCanBeRevokedByUser(@TempDir Path dir) {
+        Path file = dir.resolve("refresh.bin");
+        RefreshTokenStore first = new RefreshTokenStore(HOUR, 2 * HOUR, file);
+        String t1 = first.issue("alice", ROLES);
+        first.snapshot();
+
+        RefreshTokenStore second = new RefreshTokenStore(HOUR, 2 * HOUR, file);
+        second.load();
+
+        assertThat(second.revokeUser("alice")).isEqualTo(1);
+        assertRejected(second, t1, "unknown");
+    }
+}
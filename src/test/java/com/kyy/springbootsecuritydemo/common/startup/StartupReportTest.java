@@ -0,0 +1,53 @@
+package com.kyy.springbootsecuritydemo.common.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupReportTest {
+
+    @Configuration(proxyBeanMethods = false)
+    static class Minimal {
+        @Bean
+        StringBuilder someBean() {
+            return new StringBuilder("x");
+        }
+    }
+
+    @Test
+    void notInstalledWithoutFlagOrProfile() {
+        SpringApplication app = new SpringApplication(Minimal.class);
+
+        StartupReport.install(app, new String[0]);
+
+        assertThat(app.getListeners()).noneMatch(StartupReport.class::isInstance);
+    }
+
+    @Test
+    void reportIsBuiltWhenTheContextIsReady() {
+        String[] args = { "--app.startup.report=true" };
+        SpringApplication app = new SpringApplication(Minimal.class);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        StartupReport.install(app, args);
+        assertThat(app.getListeners()).anyMatch(StartupReport.class::isInstance);
+
+        try (ConfigurableApplicationContext ignored = app.run(args)) {
+            StartupReport.Summary summary = StartupReport.last();
+            assertThat(summary).isNotNull();
+            assertThat(summary.readyMs()).isGreaterThanOrEqualTo(0);
+            assertThat(summary.recordedSteps()).isPositive();
+            assertThat(summary.steps()).isNotEmpty().hasSizeLessThanOrEqualTo(15);
+            assertThat(summary.steps()).extracting(StartupReport.StepTime::name).contains("spring.beans.instantiate");
+            assertThat(summary.slowestBeans()).extracting(StartupReport.StepTime::name).contains("someBean");
+            // 내림차순 정렬
+            for (int i = 1; i < summary.steps().size(); i++) {
+                assertThat(summary.steps().get(i - 1).totalMs()).isGreaterThanOrEqualTo(summary.steps().get(i).totalMs());
+            }
+        }
+    }
+}